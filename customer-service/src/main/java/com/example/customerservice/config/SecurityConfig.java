@@ -63,6 +63,9 @@ public class SecurityConfig {
                                                 .requestMatchers(mvcMatcherBuilder.pattern(HttpMethod.PUT,
                                                                 "/api/customers/**"))
                                                 .hasAnyAuthority("SCOPE_write", "SCOPE_customer:write")
+                                                .requestMatchers(mvcMatcherBuilder.pattern(HttpMethod.PATCH,
+                                                                "/api/customers/**"))
+                                                .hasAnyAuthority("SCOPE_write", "SCOPE_customer:write")
                                                 .requestMatchers(mvcMatcherBuilder.pattern(HttpMethod.DELETE,
                                                                 "/api/customers/**"))
                                                 .hasAnyAuthority("SCOPE_write", "SCOPE_customer:write")
@@ -5,6 +5,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import lombok.AccessLevel;
@@ -12,8 +13,10 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
+@DynamicUpdate
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -34,6 +37,9 @@ public class CustomerEntity {
 
     private String phoneNumber;
 
+    @Version
+    private Long version;
+
     @Builder
     public CustomerEntity(String name, String email, String address, String phoneNumber) {
         // 필수 필드 검증
@@ -49,4 +55,26 @@ public class CustomerEntity {
         this.address = address;
         this.phoneNumber = phoneNumber;
     }
+
+    // 비즈니스 메서드 - 부분 수정 (null 필드는 기존 값 유지)
+    public void update(String name, String email, String address, String phoneNumber) {
+        if (name != null) {
+            if (name.isBlank()) {
+                throw new IllegalArgumentException("이름은 필수입니다");
+            }
+            this.name = name;
+        }
+        if (email != null) {
+            if (!email.contains("@")) {
+                throw new IllegalArgumentException("유효한 이메일이 필요합니다");
+            }
+            this.email = email;
+        }
+        if (address != null) {
+            this.address = address;
+        }
+        if (phoneNumber != null) {
+            this.phoneNumber = phoneNumber;
+        }
+    }
 }
\ No newline at end of file
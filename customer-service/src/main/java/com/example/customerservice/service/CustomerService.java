@@ -4,13 +4,18 @@ import com.example.customerservice.entity.CustomerEntity;
 import com.example.customerservice.repository.CustomerRepository;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
 @Service
 @RequiredArgsConstructor
 public class CustomerService {
 
+    private static final int MAX_BATCH_SIZE = 100;
+
     private final CustomerRepository customerRepository;
 
     @Transactional(readOnly = true)
@@ -24,6 +29,18 @@ public class CustomerService {
                 .orElseThrow(() -> new RuntimeException("Customer not found with id: " + id));
     }
 
+    /**
+     * 여러 고객을 한 번에 조회합니다. 한 번에 MAX_BATCH_SIZE 개까지 요청할 수 있습니다.
+     */
+    @Transactional(readOnly = true)
+    public List<CustomerEntity> getCustomersByIds(List<Long> ids) {
+        if (ids.size() > MAX_BATCH_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "At most " + MAX_BATCH_SIZE + " customer ids can be requested at once");
+        }
+        return customerRepository.findAllById(ids);
+    }
+
     @Transactional(readOnly = true)
     public CustomerEntity getCustomerByEmail(String email) {
         return customerRepository.findByEmail(email)
@@ -45,23 +62,35 @@ public class CustomerService {
         return customerRepository.save(customer);
     }
 
+    /**
+     * 고객 정보를 부분 수정합니다.
+     * 관리 중인 엔티티의 변경 감지로 변경된 컬럼만 UPDATE 하며,
+     * 요청에 version 이 없으면 428, 현재 버전과 다르거나 동시 수정이 감지되면 409 를 반환합니다.
+     */
     @Transactional
     public CustomerEntity updateCustomer(Long id, CustomerEntity customer) {
-        // 기존 고객 조회
+        if (customer.getVersion() == null) {
+            throw new ResponseStatusException(HttpStatus.PRECONDITION_REQUIRED,
+                    "version is required to update customer: " + id);
+        }
+
         CustomerEntity existingCustomer = getCustomerById(id);
+        if (!customer.getVersion().equals(existingCustomer.getVersion())) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Customer was modified concurrently: " + id);
+        }
+
+        existingCustomer.update(
+                customer.getName(),
+                customer.getEmail(),
+                customer.getAddress(),
+                customer.getPhoneNumber());
 
-        // 새로운 불변 객체 생성 (Builder 패턴 사용)
-        CustomerEntity updatedCustomer = CustomerEntity.builder()
-                .name(customer.getName() != null ? customer.getName() : existingCustomer.getName())
-                .email(customer.getEmail() != null ? customer.getEmail() : existingCustomer.getEmail())
-                .address(customer.getAddress() != null ? customer.getAddress() : existingCustomer.getAddress())
-                .phoneNumber(customer.getPhoneNumber() != null ? customer.getPhoneNumber()
-                        : existingCustomer.getPhoneNumber())
-                .build();
-
-        // ID 값 설정을 위한 리플렉션 사용 대신 새 객체로 저장
-        customerRepository.delete(existingCustomer);
-        return customerRepository.save(updatedCustomer);
+        try {
+            customerRepository.flush();
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Customer was modified concurrently: " + id, e);
+        }
+        return existingCustomer;
     }
 
     @Transactional
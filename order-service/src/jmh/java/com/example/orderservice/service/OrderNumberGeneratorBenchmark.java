@@ -0,0 +1,42 @@
+package com.example.orderservice.service;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * 주문번호 생성 처리량 벤치마크
+ *
+ * 하나의 생성기를 여러 스레드가 공유할 때 CAS 경합에 따른 처리량 변화를 측정합니다.
+ * 노드당 밀리초 4096개가 상한이므로 그 부근에서 포화되면 다음 밀리초 값을 미리 사용하는 구간입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class OrderNumberGeneratorBenchmark {
+
+    private final OrderNumberGenerator generator = new OrderNumberGenerator(0);
+
+    @Benchmark
+    @Threads(1)
+    public long singleThread() {
+        return generator.nextId();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long fourThreads() {
+        return generator.nextId();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public long sixteenThreads() {
+        return generator.nextId();
+    }
+}
@@ -2,13 +2,18 @@ package com.example.orderservice.client;
 
 import com.example.orderservice.config.FeignClientConfig;
 import com.example.orderservice.dto.CustomerDto;
+import java.util.List;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 
 @FeignClient(name = "customer-service", configuration = FeignClientConfig.class)
 public interface CustomerClient {
 
     @GetMapping("/api/customers/{id}")
     CustomerDto getCustomer(@PathVariable("id") Long id);
+
+    @GetMapping("/api/customers")
+    List<CustomerDto> getCustomers(@RequestParam("ids") List<Long> ids);
 }
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.example.orderservice.client;
+
+import com.example.orderservice.dto.OrderEvent;
+import com.example.orderservice.service.OrderEventPublisher;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+/**
+ * 브로커 연동 발행기: 이벤트 묶음을 JSON 배열 한 건으로 HTTP 엔드포인트에 전송합니다.
+ * 브로커의 REST 프록시나 이벤트 수집 서비스 주소를 order.outbox.http.url 로 지정합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "order.outbox.publisher", havingValue = "http")
+public class HttpOrderEventPublisher implements OrderEventPublisher {
+
+    private final RestClient restClient;
+
+    public HttpOrderEventPublisher(RestClient.Builder restClientBuilder,
+            @Value("${order.outbox.http.url}") String url) {
+        this.restClient = restClientBuilder.baseUrl(url).build();
+    }
+
+    @Override
+    public void publish(List<OrderEvent> events) {
+        restClient.post()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(events)
+                .retrieve()
+                .toBodilessEntity();
+    }
+}
\ No newline at end of file
@@ -2,10 +2,14 @@ package com.example.orderservice.client;
 
 import com.example.orderservice.config.FeignClientConfig;
 import com.example.orderservice.dto.ProductDto;
+import com.example.orderservice.dto.StockReservationRequest;
+import java.util.List;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 
 @FeignClient(name = "product-service", configuration = FeignClientConfig.class)
@@ -14,6 +18,15 @@ public interface ProductClient {
     @GetMapping("/api/products/{id}")
     ProductDto getProduct(@PathVariable("id") Long id);
 
+    @GetMapping("/api/products")
+    List<ProductDto> getProducts(@RequestParam("ids") List<Long> ids);
+
     @PatchMapping("/api/products/{id}/stock")
     ProductDto updateStock(@PathVariable("id") Long id, @RequestParam Integer quantity);
+
+    @PostMapping("/api/products/stock/reservations")
+    List<ProductDto> reserveStock(@RequestBody StockReservationRequest request);
+
+    @PostMapping("/api/products/stock/releases")
+    void releaseStock(@RequestBody StockReservationRequest request);
 }
\ No newline at end of file
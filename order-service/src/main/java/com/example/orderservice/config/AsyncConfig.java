@@ -0,0 +1,46 @@
+package com.example.orderservice.config;
+
+import java.util.concurrent.Executor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 비동기 작업용 스레드 풀 설정
+ */
+@Configuration
+public class AsyncConfig {
+
+    /**
+     * 주문 생성 시 고객/상품 원격 조회를 병렬로 실행하기 위한 스레드 풀
+     */
+    @Bean(name = "orderLookupExecutor")
+    public Executor orderLookupExecutor(
+            @Value("${order.lookup.pool-size:32}") int poolSize,
+            @Value("${order.lookup.queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("order-lookup-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 주문 생성 사가(재고 예약/확정/보상) 단계를 실행하기 위한 스레드 풀
+     */
+    @Bean(name = "orderSagaExecutor")
+    public Executor orderSagaExecutor(
+            @Value("${order.saga.pool-size:16}") int poolSize,
+            @Value("${order.saga.queue-capacity:10000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("order-saga-");
+        executor.initialize();
+        return executor;
+    }
+}
\ No newline at end of file
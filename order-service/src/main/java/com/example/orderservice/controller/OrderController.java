@@ -12,13 +12,20 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import com.example.orderservice.dto.BulkStatusUpdateRequest;
+import com.example.orderservice.dto.BulkStatusUpdateResponse;
 import com.example.orderservice.dto.CreateOrderRequest;
+import com.example.orderservice.dto.CustomerOrderSummaryDto;
 import com.example.orderservice.dto.OrderDto;
+import com.example.orderservice.dto.OrderPageDto;
+import com.example.orderservice.dto.OrderStatsDto;
 import com.example.orderservice.entity.OrderEntity.OrderStatus;
 import com.example.orderservice.security.Secured;
 import com.example.orderservice.service.OrderService;
@@ -47,6 +54,18 @@ public class OrderController {
         return ResponseEntity.ok(orders);
     }
 
+    /**
+     * 상태별 주문 목록 조회 (커서 기반 페이지네이션)
+     * 응답의 nextCursor 를 after 로 전달하면 다음 페이지를 조회합니다.
+     */
+    @GetMapping(params = "status")
+    public ResponseEntity<OrderPageDto> getOrdersByStatus(
+            @RequestParam OrderStatus status,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(orderService.getOrdersByStatus(status, after, limit));
+    }
+
     /**
      * 주문 상세 조회
      * 해당 주문의 소유자 또는 ADMIN 권한이 필요
@@ -61,10 +80,12 @@ public class OrderController {
     /**
      * 새 주문 생성
      * 인증된 사용자만 접근 가능 (기본 인증 필터에서 체크)
+     * Idempotency-Key 헤더를 보내면 같은 키로 재시도해도 주문이 한 번만 생성됩니다.
      */
     @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<OrderDto> createOrder(@RequestBody CreateOrderRequest request) {
-        OrderDto createdOrder = orderService.createOrder(request);
+    public ResponseEntity<OrderDto> createOrder(@RequestBody CreateOrderRequest request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        OrderDto createdOrder = orderService.createOrder(request, idempotencyKey);
         URI location = ServletUriComponentsBuilder
                 .fromCurrentRequest()
                 .path("/{id}")
@@ -98,6 +119,33 @@ public class OrderController {
         return ResponseEntity.ok(allOrders);
     }
 
+    /**
+     * 주문 통계 조회 (관리자용)
+     * 상태별, 일/시간 구간별, 상품별 주문 수와 매출을 DB 에서 집계하여 반환합니다.
+     * ADMIN 권한만 허용
+     */
+    @GetMapping("/stats")
+    @Secured({ "ROLE_ADMIN" })
+    public ResponseEntity<OrderStatsDto> getOrderStats(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "DAY") OrderStatsDto.Bucket bucket) {
+        return ResponseEntity.ok(orderService.getOrderStats(from, to, bucket));
+    }
+
+    /**
+     * 모든 주문을 NDJSON 스트림으로 내보내기 (관리자용)
+     * ADMIN 권한만 허용
+     */
+    @GetMapping(path = "/admin/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Secured({ "ROLE_ADMIN" })
+    public ResponseEntity<StreamingResponseBody> exportOrders() {
+        StreamingResponseBody body = orderService::exportOrders;
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     /**
      * 주문 상태 업데이트 (관리자용)
      * ADMIN 권한만 허용
@@ -109,6 +157,17 @@ public class OrderController {
         return ResponseEntity.ok(updatedOrder);
     }
 
+    /**
+     * 주문 상태 일괄 변경 (관리자용)
+     * ID 목록 또는 현재 상태 기준 조건으로 대상을 지정하며, 처리 건수와 실패 목록만 반환합니다.
+     * ADMIN 권한만 허용
+     */
+    @PutMapping(path = "/status", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Secured({ "ROLE_ADMIN" })
+    public ResponseEntity<BulkStatusUpdateResponse> updateOrderStatuses(@RequestBody BulkStatusUpdateRequest request) {
+        return ResponseEntity.ok(orderService.updateOrderStatuses(request));
+    }
+
     @GetMapping("/number/{orderNumber}")
     public ResponseEntity<OrderDto> getOrderByOrderNumber(@PathVariable String orderNumber) {
         return ResponseEntity.ok(orderService.getOrderByOrderNumber(orderNumber));
@@ -119,6 +178,14 @@ public class OrderController {
         return ResponseEntity.ok(orderService.getOrdersByCustomerId(customerId));
     }
 
+    /**
+     * 고객별 주문 요약 조회 (주문 수, 누적 결제 금액, 최근 주문일, 최근 주문 목록)
+     */
+    @GetMapping("/customer/{customerId}/summary")
+    public ResponseEntity<CustomerOrderSummaryDto> getCustomerOrderSummary(@PathVariable Long customerId) {
+        return ResponseEntity.ok(orderService.getCustomerOrderSummary(customerId));
+    }
+
     @GetMapping(path = "/search", params = { "status", "startDate", "endDate" })
     public ResponseEntity<List<OrderDto>> getOrdersByStatusAndDateRange(
             @RequestParam OrderStatus status,
@@ -0,0 +1,26 @@
+package com.example.orderservice.dto;
+
+import com.example.orderservice.entity.OrderEntity.OrderStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주문 상태 일괄 변경 요청
+ * orderIds 로 대상 주문을 지정하거나, currentStatus 와 선택 조건(customerId, 주문일 범위)으로 대상을 지정합니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusUpdateRequest {
+    private List<Long> orderIds;
+    private OrderStatus currentStatus;
+    private Long customerId;
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+    private OrderStatus targetStatus;
+}
\ No newline at end of file
@@ -0,0 +1,37 @@
+package com.example.orderservice.dto;
+
+import com.example.orderservice.entity.OrderEntity.OrderStatus;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주문 상태 일괄 변경 결과
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusUpdateResponse {
+    private OrderStatus targetStatus;
+    private int matched;
+    private long updated;
+    private List<Failure> failures;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Failure {
+        private Long orderId;
+        private OrderStatus currentStatus;
+        private Reason reason;
+    }
+
+    public enum Reason {
+        NOT_FOUND,
+        INVALID_TRANSITION
+    }
+}
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.example.orderservice.dto;
+
+import com.example.orderservice.entity.OrderEntity.OrderStatus;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 고객별 주문 요약
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerOrderSummaryDto {
+    private Long customerId;
+    private String customerName;
+    private long orderCount;
+    private BigDecimal totalSpent;
+    private LocalDateTime lastOrderDate;
+    private List<RecentOrderDto> recentOrders;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RecentOrderDto {
+        private Long id;
+        private String orderNumber;
+        private OrderStatus status;
+        private LocalDateTime orderDate;
+        private BigDecimal totalAmount;
+    }
+}
\ No newline at end of file
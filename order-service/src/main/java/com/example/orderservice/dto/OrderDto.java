@@ -1,6 +1,7 @@
 package com.example.orderservice.dto;
 
 import com.example.orderservice.entity.OrderEntity.OrderStatus;
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -19,6 +20,17 @@ public class OrderDto {
     private String orderNumber;
     private OrderStatus status;
     private LocalDateTime orderDate;
-    private Double totalAmount;
+    private BigDecimal totalAmount;
     private List<OrderItemDto> items;
+
+    // QueryDSL Projections.constructor 용 (customerName 과 items 는 조회 후 채움)
+    public OrderDto(Long id, Long customerId, String orderNumber, OrderStatus status, LocalDateTime orderDate,
+            BigDecimal totalAmount) {
+        this.id = id;
+        this.customerId = customerId;
+        this.orderNumber = orderNumber;
+        this.status = status;
+        this.orderDate = orderDate;
+        this.totalAmount = totalAmount;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.example.orderservice.dto;
+
+import com.example.orderservice.entity.OrderEntity.OrderStatus;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주문 상태 변경 이벤트
+ * eventId 는 아웃박스 행 ID 로, 같은 이벤트가 다시 전달되었을 때 소비자가 중복을 거르는 데 사용합니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderEvent {
+    private Long eventId;
+    private Type type;
+    private Long orderId;
+    private String orderNumber;
+    private Long customerId;
+    private OrderStatus status;
+    private BigDecimal totalAmount;
+    private LocalDateTime occurredAt;
+
+    public enum Type {
+        ORDER_CREATED,
+        ORDER_CONFIRMED,
+        ORDER_CANCELLED,
+        ORDER_STATUS_CHANGED
+    }
+}
\ No newline at end of file
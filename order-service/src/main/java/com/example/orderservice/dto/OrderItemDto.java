@@ -1,5 +1,6 @@
 package com.example.orderservice.dto;
 
+import java.math.BigDecimal;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -14,6 +15,6 @@ public class OrderItemDto {
     private Long productId;
     private String productName;
     private Integer quantity;
-    private Double unitPrice;
-    private Double totalPrice;
+    private BigDecimal unitPrice;
+    private BigDecimal totalPrice;
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.example.orderservice.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 커서 기반 주문 목록 페이지
+ * nextCursor 가 null 이면 마지막 페이지입니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderPageDto {
+    private List<OrderDto> items;
+    private String nextCursor;
+}
\ No newline at end of file
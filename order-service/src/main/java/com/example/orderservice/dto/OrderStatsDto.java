@@ -0,0 +1,99 @@
+package com.example.orderservice.dto;
+
+import com.example.orderservice.entity.OrderEntity.OrderStatus;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주문 통계
+ * byStatus 는 모든 주문을, byPeriod 와 byProduct 는 취소되지 않은 주문만 집계합니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderStatsDto {
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private Bucket bucket;
+    private List<StatusStats> byStatus;
+    private List<PeriodStats> byPeriod;
+    private List<ProductStats> byProduct;
+
+    public enum Bucket {
+        DAY, HOUR
+    }
+
+    /**
+     * 상태별 주문 수, 매출, 평균 주문 금액
+     */
+    @Data
+    @NoArgsConstructor
+    public static class StatusStats {
+        private OrderStatus status;
+        private long orderCount;
+        private BigDecimal revenue;
+        private BigDecimal averageBasket;
+
+        // QueryDSL Projections.constructor 용
+        public StatusStats(OrderStatus status, Long orderCount, BigDecimal revenue) {
+            this.status = status;
+            this.orderCount = orderCount;
+            this.revenue = revenue;
+            this.averageBasket = average(revenue, orderCount);
+        }
+    }
+
+    /**
+     * 일/시간 구간별 주문 수, 매출, 평균 주문 금액
+     */
+    @Data
+    @NoArgsConstructor
+    public static class PeriodStats {
+        private LocalDateTime bucketStart;
+        private long orderCount;
+        private BigDecimal revenue;
+        private BigDecimal averageBasket;
+
+        // QueryDSL Projections.constructor 용 (일 단위)
+        public PeriodStats(Integer year, Integer month, Integer day, Long orderCount, BigDecimal revenue) {
+            this(year, month, day, 0, orderCount, revenue);
+        }
+
+        // QueryDSL Projections.constructor 용 (시간 단위)
+        public PeriodStats(Integer year, Integer month, Integer day, Integer hour, Long orderCount,
+                BigDecimal revenue) {
+            this.bucketStart = LocalDateTime.of(year, month, day, hour, 0);
+            this.orderCount = orderCount;
+            this.revenue = revenue;
+            this.averageBasket = average(revenue, orderCount);
+        }
+    }
+
+    /**
+     * 상품별 판매 수량, 주문 수, 매출
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ProductStats {
+        private Long productId;
+        private String productName;
+        private Long quantity;
+        private Long orderCount;
+        private BigDecimal revenue;
+    }
+
+    private static BigDecimal average(BigDecimal revenue, Long orderCount) {
+        if (revenue == null || orderCount == null || orderCount == 0) {
+            return BigDecimal.ZERO;
+        }
+        return revenue.divide(BigDecimal.valueOf(orderCount), 2, RoundingMode.HALF_UP);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.example.orderservice.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockReservationRequest {
+    // 상품 서비스에서 같은 주문의 예약/복원 재시도를 한 번만 적용하기 위한 키
+    private Long orderId;
+    // 주문별 예약 기록 도입 이전에 차감된 주문의 복원 (상품 서비스에 예약 기록이 없어도 한 번 복원)
+    private boolean reservedBeforeTracking;
+    private List<ReservationItem> items;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ReservationItem {
+        private Long productId;
+        private Integer quantity;
+    }
+}
\ No newline at end of file
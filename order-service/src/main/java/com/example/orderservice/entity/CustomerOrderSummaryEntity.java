@@ -0,0 +1,152 @@
+package com.example.orderservice.entity;
+
+import com.example.orderservice.entity.OrderEntity.OrderStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 고객별 주문 요약 (읽기 모델)
+ *
+ * 주문이 생성되거나 상태가 바뀔 때 같은 트랜잭션에서 갱신되므로 고객 대시보드는
+ * 주문 수와 관계없이 이 한 행만 조회합니다.
+ * orderCount 는 취소된 주문을 포함한 전체 주문 수이며, totalSpent 는 취소되지 않은 주문 금액의 합입니다.
+ * initialized 가 false 인 행은 먼저 추가만 된 빈 행이며, 주문 목록으로 재구성한 뒤부터 증분 갱신합니다.
+ */
+@Entity
+@Table(name = "customer_order_summaries")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CustomerOrderSummaryEntity implements Persistable<Long> {
+
+    @Id
+    private Long customerId;
+
+    private long orderCount;
+
+    @Column(precision = 19, scale = 2)
+    private BigDecimal totalSpent = BigDecimal.ZERO;
+
+    private LocalDateTime lastOrderDate;
+
+    // 최근 주문 헤더 (최신순)
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(length = 4000)
+    private List<RecentOrder> recentOrders = new ArrayList<>();
+
+    private boolean initialized;
+
+    // 고객 ID 를 직접 할당하므로 merge 대신 persist 되도록 신규 여부를 직접 관리
+    @Transient
+    private boolean isNew = true;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RecentOrder {
+        private Long orderId;
+        private String orderNumber;
+        private OrderStatus status;
+        private LocalDateTime orderDate;
+        private BigDecimal totalAmount;
+    }
+
+    public CustomerOrderSummaryEntity(Long customerId) {
+        if (customerId == null) {
+            throw new IllegalArgumentException("고객 ID는 필수입니다");
+        }
+
+        this.customerId = customerId;
+        this.initialized = true;
+    }
+
+    /**
+     * 고객의 주문 전체로 요약을 다시 계산합니다.
+     */
+    public void rebuild(List<OrderEntity> orders, int recentLimit) {
+        this.orderCount = 0;
+        this.totalSpent = BigDecimal.ZERO;
+        this.lastOrderDate = null;
+        this.recentOrders = new ArrayList<>();
+        orders.stream()
+                .sorted(Comparator.comparing(OrderEntity::getOrderDate))
+                .forEach(order -> addOrder(order, recentLimit));
+        this.initialized = true;
+    }
+
+    public void addOrder(OrderEntity order, int recentLimit) {
+        this.orderCount++;
+        if (order.getStatus() != OrderStatus.CANCELLED) {
+            this.totalSpent = totalSpent.add(amountOf(order));
+        }
+        if (lastOrderDate == null || order.getOrderDate().isAfter(lastOrderDate)) {
+            this.lastOrderDate = order.getOrderDate();
+        }
+
+        List<RecentOrder> updated = new ArrayList<>(recentOrders);
+        updated.add(new RecentOrder(order.getId(), order.getOrderNumber(), order.getStatus(),
+                order.getOrderDate(), order.getTotalAmount()));
+        updated.sort(Comparator.comparing(RecentOrder::getOrderDate).reversed());
+        this.recentOrders = new ArrayList<>(updated.subList(0, Math.min(updated.size(), recentLimit)));
+    }
+
+    public void changeStatus(OrderEntity order, OrderStatus previousStatus) {
+        changeStatus(order.getId(), order.getTotalAmount(), previousStatus, order.getStatus());
+    }
+
+    public void changeStatus(Long orderId, BigDecimal totalAmount, OrderStatus previousStatus, OrderStatus newStatus) {
+        BigDecimal amount = totalAmount != null ? totalAmount : BigDecimal.ZERO;
+        boolean wasCounted = previousStatus != OrderStatus.CANCELLED;
+        boolean isCounted = newStatus != OrderStatus.CANCELLED;
+        if (wasCounted && !isCounted) {
+            this.totalSpent = totalSpent.subtract(amount);
+        } else if (!wasCounted && isCounted) {
+            this.totalSpent = totalSpent.add(amount);
+        }
+
+        List<RecentOrder> updated = new ArrayList<>(recentOrders.size());
+        for (RecentOrder recent : recentOrders) {
+            updated.add(recent.getOrderId().equals(orderId)
+                    ? new RecentOrder(recent.getOrderId(), recent.getOrderNumber(), newStatus,
+                            recent.getOrderDate(), recent.getTotalAmount())
+                    : recent);
+        }
+        this.recentOrders = updated;
+    }
+
+    private BigDecimal amountOf(OrderEntity order) {
+        return order.getTotalAmount() != null ? order.getTotalAmount() : BigDecimal.ZERO;
+    }
+
+    @Override
+    public Long getId() {
+        return customerId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,86 @@
+package com.example.orderservice.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 주문 생성 요청의 Idempotency-Key 기록
+ *
+ * orderId 가 null 이면 같은 키의 요청이 아직 처리 중인 상태입니다.
+ * 처리 중인 키는 leaseExpiresAt 까지만 선점되며, 그 전에 완료되지 않으면 (인스턴스 비정상 종료 등)
+ * 같은 요청으로 다시 선점할 수 있습니다.
+ * claimToken 은 선점할 때마다 새로 발급되며, 완료와 해제는 현재 선점의 토큰을 가진 요청만 할 수 있습니다.
+ */
+@Entity
+@Table(name = "idempotency_keys", indexes = @Index(name = "idx_idempotency_keys_created_at", columnList = "createdAt"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IdempotencyKeyEntity implements Persistable<String> {
+
+    @Id
+    @Column(length = 100)
+    private String idempotencyKey;
+
+    // 요청 본문 SHA-256 (16진수)
+    @Column(length = 64)
+    private String requestHash;
+
+    private Long orderId;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime leaseExpiresAt;
+
+    @Column(length = 36)
+    private String claimToken;
+
+    // 키를 직접 할당하므로 merge 대신 persist 되도록 신규 여부를 직접 관리
+    @Transient
+    private boolean isNew = true;
+
+    @Builder
+    public IdempotencyKeyEntity(String idempotencyKey, String requestHash, LocalDateTime createdAt,
+            LocalDateTime leaseExpiresAt, String claimToken) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            throw new IllegalArgumentException("Idempotency-Key는 필수입니다");
+        }
+
+        this.idempotencyKey = idempotencyKey;
+        this.requestHash = requestHash;
+        this.createdAt = createdAt != null ? createdAt : LocalDateTime.now();
+        this.leaseExpiresAt = leaseExpiresAt;
+        this.claimToken = claimToken;
+    }
+
+    public boolean isCompleted() {
+        return orderId != null;
+    }
+
+    @Override
+    public String getId() {
+        return idempotencyKey;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
\ No newline at end of file
@@ -2,9 +2,15 @@ package com.example.orderservice.entity;
 
 import com.querydsl.core.annotations.QueryEntity;
 import jakarta.persistence.*;
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -12,19 +18,27 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "orders")
+// 조회 경로별 인덱스: 주문번호 단건 조회, 상태+기간 검색 및 상태별 커서 페이지, 고객+상태 검색
+@Table(name = "orders", indexes = {
+        @Index(name = "uk_orders_order_number", columnList = "orderNumber", unique = true),
+        @Index(name = "idx_orders_status_order_date", columnList = "status, orderDate, id"),
+        @Index(name = "idx_orders_customer_id_status", columnList = "customerId, status")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @QueryEntity
 public class OrderEntity {
 
+    // 시퀀스를 allocationSize 단위로 미리 할당받아 INSERT 를 JDBC 배치로 묶을 수 있도록 함 (IDENTITY 는 배치 불가)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq")
+    @SequenceGenerator(name = "orders_seq", sequenceName = "orders_seq", allocationSize = 50)
     private Long id;
 
     private Long customerId;
 
+    @Column(nullable = false, updatable = false)
     private String orderNumber;
 
     @Enumerated(EnumType.STRING)
@@ -32,18 +46,61 @@ public class OrderEntity {
 
     private LocalDateTime orderDate;
 
-    private Double totalAmount;
+    @Column(precision = 19, scale = 2)
+    private BigDecimal totalAmount;
 
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<OrderItemEntity> orderItems = new ArrayList<>();
 
+    /**
+     * 주문 상태와 전이 규칙
+     *
+     * CREATED → PROCESSING → DELIVERED → COMPLETED 순서로 진행하며, 배송 전(CREATED, PROCESSING)까지만
+     * 취소할 수 있습니다. 전이표는 클래스 로딩 시 한 번 계산되므로 검사 시 객체를 만들지 않습니다.
+     */
     public enum OrderStatus {
-        CREATED, PROCESSING, COMPLETED, CANCELLED, DELIVERED
+        CREATED, PROCESSING, COMPLETED, CANCELLED, DELIVERED;
+
+        // 상태별 전이 가능한 대상 상태 비트마스크 (ordinal 기준)
+        private static final int[] TARGETS = new int[values().length];
+
+        // 대상 상태별 전이 가능한 이전 상태 (일괄 변경 조건용)
+        private static final Map<OrderStatus, Set<OrderStatus>> SOURCES = new EnumMap<>(OrderStatus.class);
+
+        static {
+            allow(CREATED, PROCESSING, CANCELLED);
+            allow(PROCESSING, DELIVERED, CANCELLED);
+            allow(DELIVERED, COMPLETED);
+
+            for (OrderStatus target : values()) {
+                EnumSet<OrderStatus> sources = EnumSet.noneOf(OrderStatus.class);
+                for (OrderStatus source : values()) {
+                    if (source.canTransitionTo(target)) {
+                        sources.add(source);
+                    }
+                }
+                SOURCES.put(target, Collections.unmodifiableSet(sources));
+            }
+        }
+
+        private static void allow(OrderStatus from, OrderStatus... targets) {
+            for (OrderStatus target : targets) {
+                TARGETS[from.ordinal()] |= 1 << target.ordinal();
+            }
+        }
+
+        public boolean canTransitionTo(OrderStatus target) {
+            return (TARGETS[ordinal()] & (1 << target.ordinal())) != 0;
+        }
+
+        public static Set<OrderStatus> sourcesOf(OrderStatus target) {
+            return SOURCES.get(target);
+        }
     }
 
     @Builder
     public OrderEntity(Long customerId, String orderNumber, OrderStatus status, LocalDateTime orderDate,
-            Double totalAmount) {
+            BigDecimal totalAmount) {
         // 필수 필드 검증
         if (customerId == null) {
             throw new IllegalArgumentException("고객 ID는 필수입니다");
@@ -56,7 +113,7 @@ public class OrderEntity {
         this.orderNumber = orderNumber;
         this.status = status != null ? status : OrderStatus.CREATED;
         this.orderDate = orderDate != null ? orderDate : LocalDateTime.now();
-        this.totalAmount = totalAmount != null ? totalAmount : 0.0;
+        this.totalAmount = totalAmount != null ? totalAmount : BigDecimal.ZERO;
         this.orderItems = new ArrayList<>();
     }
 
@@ -73,12 +130,15 @@ public class OrderEntity {
     }
 
     public void updateStatus(OrderStatus newStatus) {
+        if (!status.canTransitionTo(newStatus)) {
+            throw new IllegalStateException("Cannot change order status from " + status + " to " + newStatus);
+        }
         this.status = newStatus;
     }
 
     private void recalculateTotalAmount() {
         this.totalAmount = orderItems.stream()
-                .mapToDouble(item -> item.getQuantity() * item.getUnitPrice())
-                .sum();
+                .map(OrderItemEntity::getTotalPrice)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
     }
 }
\ No newline at end of file
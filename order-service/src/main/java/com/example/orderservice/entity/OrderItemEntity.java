@@ -1,6 +1,7 @@
 package com.example.orderservice.entity;
 
 import jakarta.persistence.*;
+import java.math.BigDecimal;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -8,13 +9,15 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(indexes = @Index(name = "idx_order_item_entity_order_id", columnList = "order_id"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class OrderItemEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_items_seq")
+    @SequenceGenerator(name = "order_items_seq", sequenceName = "order_items_seq", allocationSize = 50)
     private Long id;
 
     private Long productId;
@@ -23,16 +26,18 @@ public class OrderItemEntity {
 
     private Integer quantity;
 
-    private Double unitPrice;
+    @Column(precision = 19, scale = 2)
+    private BigDecimal unitPrice;
 
-    private Double totalPrice;
+    @Column(precision = 19, scale = 2)
+    private BigDecimal totalPrice;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "order_id")
     private OrderEntity order;
 
     @Builder
-    public OrderItemEntity(Long productId, String productName, Integer quantity, Double unitPrice) {
+    public OrderItemEntity(Long productId, String productName, Integer quantity, BigDecimal unitPrice) {
         // 필수 필드 검증
         if (productId == null) {
             throw new IllegalArgumentException("상품 ID는 필수입니다");
@@ -43,7 +48,7 @@ public class OrderItemEntity {
         if (quantity == null || quantity <= 0) {
             throw new IllegalArgumentException("수량은 1 이상이어야 합니다");
         }
-        if (unitPrice == null || unitPrice <= 0) {
+        if (unitPrice == null || unitPrice.signum() <= 0) {
             throw new IllegalArgumentException("단가는 양수여야 합니다");
         }
 
@@ -67,7 +72,7 @@ public class OrderItemEntity {
         this.order = order;
     }
 
-    private Double calculateTotalPrice() {
-        return this.quantity * this.unitPrice;
+    private BigDecimal calculateTotalPrice() {
+        return this.unitPrice.multiply(BigDecimal.valueOf(this.quantity));
     }
 }
\ No newline at end of file
@@ -0,0 +1,60 @@
+package com.example.orderservice.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주문 이벤트 아웃박스
+ *
+ * 주문 변경과 같은 트랜잭션에서 기록되며, OrderOutboxRelay 가 ID 순서대로 읽어 발행합니다.
+ * leaseUntil 은 발행 중인 행을 다른 인스턴스가 다시 가져가지 않도록 잡아두는 시각입니다.
+ * attempts 는 발행 실패 횟수이며, 최대 횟수를 넘긴 행은 failedAt 을 기록하고 더 이상 발행하지 않습니다.
+ */
+@Entity
+@Table(name = "order_outbox", indexes = {
+        @Index(name = "idx_order_outbox_published_at_id", columnList = "publishedAt, id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderOutboxEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, updatable = false)
+    private Long orderId;
+
+    @Column(nullable = false, updatable = false)
+    private String eventType;
+
+    @Column(nullable = false, updatable = false, length = 4000)
+    private String payload;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime leaseUntil;
+
+    private LocalDateTime publishedAt;
+
+    private LocalDateTime failedAt;
+
+    private int attempts;
+
+    @Builder
+    public OrderOutboxEntity(Long orderId, String eventType, String payload) {
+        this.orderId = orderId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public void lease(LocalDateTime until) {
+        this.leaseUntil = until;
+    }
+}
\ No newline at end of file
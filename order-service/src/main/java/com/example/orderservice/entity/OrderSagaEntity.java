@@ -0,0 +1,167 @@
+package com.example.orderservice.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주문 생성 사가 진행 기록
+ *
+ * 재고 예약(reserve) → 확정(confirm) 순서로 진행하며, 예약 후 주문이 취소되면
+ * 재고 복원(compensate)을 수행합니다. 상태는 DB 에 남으므로 인스턴스가 재시작되어도
+ * 멈춘 사가를 이어서 처리할 수 있습니다.
+ */
+@Entity
+@Table(name = "order_sagas", indexes = {
+        @Index(name = "uk_order_sagas_order_id", columnList = "orderId", unique = true),
+        @Index(name = "idx_order_sagas_status_updated_at", columnList = "status, updatedAt")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderSagaEntity {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, updatable = false)
+    private Long orderId;
+
+    @Enumerated(EnumType.STRING)
+    private SagaStatus status;
+
+    private boolean cancelRequested;
+
+    // 사가 도입 이전 주문으로, 상품 서비스에 주문별 예약 기록 없이 재고가 차감됨
+    private boolean reservedBeforeTracking;
+
+    private int attempts;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    @Version
+    private Long version;
+
+    public enum SagaStatus {
+        // 재고 예약 대기
+        STARTED,
+        // 재고 예약 호출 중
+        RESERVING,
+        // 재고 예약 완료 및 주문 확정
+        CONFIRMED,
+        // 재고 복원 중
+        COMPENSATING,
+        // 재고 복원 완료 (또는 예약 전 취소)
+        COMPENSATED,
+        // 재고 예약 실패
+        FAILED
+    }
+
+    @Builder
+    public OrderSagaEntity(Long orderId) {
+        if (orderId == null) {
+            throw new IllegalArgumentException("주문 ID는 필수입니다");
+        }
+
+        this.orderId = orderId;
+        this.status = SagaStatus.STARTED;
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
+    }
+
+    public void startReserving() {
+        changeStatus(SagaStatus.RESERVING);
+        this.attempts++;
+    }
+
+    public void confirm() {
+        changeStatus(SagaStatus.CONFIRMED);
+    }
+
+    /**
+     * 사가 도입 이전 주문을 이미 예약된 것으로 기록합니다.
+     */
+    public void confirmReservedBeforeTracking() {
+        this.reservedBeforeTracking = true;
+        confirm();
+    }
+
+    /**
+     * 예약 결과를 알 수 없는 실패(타임아웃 등)를 기록합니다. RESERVING 상태로 남아 복구 스케줄러가 다시 예약합니다.
+     */
+    public void reserveFailed(String error) {
+        this.lastError = truncate(error);
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 예약 재시도를 포기하고 적용되었을 수 있는 예약을 복원합니다.
+     */
+    public void abandonReservation(String error) {
+        this.lastError = truncate(error);
+        changeStatus(SagaStatus.COMPENSATING);
+    }
+
+    public void fail(String error) {
+        this.lastError = truncate(error);
+        changeStatus(SagaStatus.FAILED);
+    }
+
+    public void startCompensating() {
+        changeStatus(SagaStatus.COMPENSATING);
+    }
+
+    public void claimCompensation() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void compensated() {
+        changeStatus(SagaStatus.COMPENSATED);
+    }
+
+    public void compensationFailed(String error) {
+        this.lastError = truncate(error);
+        this.attempts++;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 주문 취소를 기록합니다.
+     *
+     * @return 이미 예약된 재고를 복원해야 하면 true
+     */
+    public boolean requestCancel() {
+        this.cancelRequested = true;
+        this.updatedAt = LocalDateTime.now();
+        if (status == SagaStatus.STARTED) {
+            // 예약 전이므로 복원할 재고가 없음
+            changeStatus(SagaStatus.COMPENSATED);
+        } else if (status == SagaStatus.CONFIRMED) {
+            changeStatus(SagaStatus.COMPENSATING);
+            return true;
+        }
+        return false;
+    }
+
+    private void changeStatus(SagaStatus newStatus) {
+        this.status = newStatus;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    private String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.example.orderservice.repository;
+
+import com.example.orderservice.entity.CustomerOrderSummaryEntity;
+import jakarta.persistence.LockModeType;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CustomerOrderSummaryRepository extends JpaRepository<CustomerOrderSummaryEntity, Long>,
+        CustomerOrderSummaryRepositoryCustom {
+
+    /**
+     * 같은 고객의 주문 변경이 동시에 요약을 갱신하지 않도록 행을 잠그고 조회합니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from CustomerOrderSummaryEntity s where s.customerId = :customerId")
+    Optional<CustomerOrderSummaryEntity> findForUpdate(@Param("customerId") Long customerId);
+
+}
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.example.orderservice.repository;
+
+public interface CustomerOrderSummaryRepositoryCustom {
+
+    /**
+     * 요약 행이 없으면 재구성 전 상태(initialized = false)의 빈 행을 현재 트랜잭션에서 추가합니다.
+     * 다른 트랜잭션이 먼저 추가했다면 아무것도 바꾸지 않으며, 이후 findForUpdate 로 같은 행을 잠급니다.
+     *
+     * @return 추가했으면 true, 이미 있었으면 false
+     */
+    boolean insertIfAbsent(Long customerId);
+}
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.example.orderservice.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class CustomerOrderSummaryRepositoryImpl implements CustomerOrderSummaryRepositoryCustom {
+
+    private static final String INSERT_EMPTY_SUMMARY = "insert into customer_order_summaries "
+            + "(customer_id, order_count, total_spent, initialized) values (?, 0, 0, false)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CustomerOrderSummaryRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /*
+     * 동시에 첫 주문을 저장하는 트랜잭션끼리는 한쪽의 INSERT 가 키 중복으로 실패합니다.
+     * 트랜잭션에 묶인 같은 커넥션에서 세이브포인트까지만 되돌리고, JPA 를 거치지 않으므로
+     * 주문 트랜잭션은 롤백 전용으로 표시되지 않습니다.
+     */
+    @Override
+    public boolean insertIfAbsent(Long customerId) {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            Savepoint savepoint = connection.setSavepoint();
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_EMPTY_SUMMARY)) {
+                statement.setLong(1, customerId);
+                statement.executeUpdate();
+                connection.releaseSavepoint(savepoint);
+                return true;
+            } catch (SQLException e) {
+                if (!(jdbcTemplate.getExceptionTranslator().translate("insertIfAbsent", INSERT_EMPTY_SUMMARY, e)
+                        instanceof DuplicateKeyException)) {
+                    throw e;
+                }
+                connection.rollback(savepoint);
+                return false;
+            }
+        }));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,51 @@
+package com.example.orderservice.repository;
+
+import com.example.orderservice.entity.IdempotencyKeyEntity;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKeyEntity, String> {
+
+    @Modifying
+    @Query("delete from IdempotencyKeyEntity k where k.createdAt < :cutoff")
+    int deleteCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * 선점 기간이 지난 처리 중 키를 새 토큰으로 다시 선점합니다.
+     *
+     * @return 다시 선점했으면 1, 완료되었거나 아직 선점 기간 중이면 0
+     */
+    @Modifying
+    @Query("update IdempotencyKeyEntity k set k.leaseExpiresAt = :leaseExpiresAt, k.claimToken = :claimToken "
+            + "where k.idempotencyKey = :key and k.orderId is null "
+            + "and (k.leaseExpiresAt is null or k.leaseExpiresAt < :now)")
+    int reclaimExpired(@Param("key") String idempotencyKey, @Param("now") LocalDateTime now,
+            @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt, @Param("claimToken") String claimToken);
+
+    /**
+     * 이 토큰으로 선점한 처리 중 키에 주문 ID 를 기록합니다.
+     *
+     * @return 기록했으면 1, 키가 없거나 다른 요청이 다시 선점했거나 이미 완료되었으면 0
+     */
+    @Modifying
+    @Query("update IdempotencyKeyEntity k set k.orderId = :orderId "
+            + "where k.idempotencyKey = :key and k.claimToken = :claimToken and k.orderId is null")
+    int complete(@Param("key") String idempotencyKey, @Param("claimToken") String claimToken,
+            @Param("orderId") Long orderId);
+
+    /**
+     * 이 토큰으로 선점한 처리 중 키를 삭제합니다.
+     * 다른 요청이 다시 선점한 키나 완료된 키는 삭제하지 않습니다.
+     *
+     * @return 삭제했으면 1, 아니면 0
+     */
+    @Modifying
+    @Query("delete from IdempotencyKeyEntity k "
+            + "where k.idempotencyKey = :key and k.claimToken = :claimToken and k.orderId is null")
+    int release(@Param("key") String idempotencyKey, @Param("claimToken") String claimToken);
+}
\ No newline at end of file
@@ -0,0 +1,45 @@
+package com.example.orderservice.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * (orderDate, id) 기반 키셋 페이지네이션 커서
+ *
+ * 클라이언트에는 URL-safe Base64 문자열로 전달되며, 마지막으로 받은 주문의 위치를 나타냅니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class OrderCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime orderDate;
+    private final Long id;
+
+    public String encode() {
+        String raw = orderDate + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static OrderCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(SEPARATOR);
+            return new OrderCursor(
+                    LocalDateTime.parse(raw.substring(0, index)),
+                    Long.parseLong(raw.substring(index + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다: " + cursor, e);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,57 @@
+package com.example.orderservice.repository;
+
+import com.example.orderservice.entity.OrderOutboxEntity;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OrderOutboxRepository extends JpaRepository<OrderOutboxEntity, Long> {
+
+    /**
+     * 발행 대기 중인 행을 ID 순서로 잠급니다. 발행을 중단한(failedAt) 행은 제외합니다.
+     * lock timeout -2 는 SKIP LOCKED 로, 다른 인스턴스가 잠근 행은 기다리지 않고 건너뜁니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select o from OrderOutboxEntity o where o.publishedAt is null and o.failedAt is null"
+            + " and (o.leaseUntil is null or o.leaseUntil < :now) order by o.id")
+    List<OrderOutboxEntity> findPublishable(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 발행을 중단한 행도 포함하므로, 그 주문의 이후 이벤트는 계속 보류됩니다.
+     */
+    @Query("select o from OrderOutboxEntity o where o.publishedAt is null and o.orderId in :orderIds")
+    List<OrderOutboxEntity> findUnpublishedByOrderIds(@Param("orderIds") Collection<Long> orderIds);
+
+    @Modifying
+    @Query("update OrderOutboxEntity o set o.leaseUntil = null where o.id in :ids")
+    int clearLease(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("update OrderOutboxEntity o set o.leaseUntil = null, o.attempts = o.attempts + 1 where o.id = :id")
+    int recordFailedAttempt(@Param("id") Long id);
+
+    @Modifying
+    @Query("update OrderOutboxEntity o set o.leaseUntil = null, o.attempts = o.attempts + 1,"
+            + " o.failedAt = :failedAt where o.id = :id")
+    int markFailed(@Param("id") Long id, @Param("failedAt") LocalDateTime failedAt);
+
+    @Modifying
+    @Query("update OrderOutboxEntity o set o.publishedAt = :publishedAt where o.id in :ids")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+    @Modifying
+    @Query("delete from OrderOutboxEntity o where o.publishedAt < :cutoff")
+    int deletePublishedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
\ No newline at end of file
@@ -1,13 +1,26 @@
 package com.example.orderservice.repository;
 
 import com.example.orderservice.entity.OrderEntity;
+import jakarta.persistence.LockModeType;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface OrderRepository extends JpaRepository<OrderEntity, Long>, OrderRepositoryCustom {
     List<OrderEntity> findByCustomerId(Long customerId);
 
-    List<OrderEntity> findByOrderNumber(String orderNumber);
+    Optional<OrderEntity> findByOrderNumber(String orderNumber);
+
+    /**
+     * 주문 상태를 바꾸기 전에 행을 잠그고 조회합니다.
+     * 일괄 상태 변경(findOrderHeadersForUpdate)과 같은 잠금을 잡으므로, 먼저 잠근 쪽이 커밋한 상태를 보고 전이를 검사합니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o from OrderEntity o where o.id = :id")
+    Optional<OrderEntity> findByIdForUpdate(@Param("id") Long id);
 }
\ No newline at end of file
@@ -1,13 +1,42 @@
 package com.example.orderservice.repository;
 
-import com.example.orderservice.entity.OrderEntity;
+import com.example.orderservice.dto.OrderDto;
+import com.example.orderservice.dto.OrderStatsDto;
 import com.example.orderservice.entity.OrderEntity.OrderStatus;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface OrderRepositoryCustom {
-    List<OrderEntity> findOrdersByCustomerIdAndStatus(Long customerId, OrderStatus status);
+    Optional<OrderDto> findOrderDtoById(Long id);
 
-    List<OrderEntity> findOrdersByStatusAndDateRange(OrderStatus status, LocalDateTime startDate,
+    Optional<OrderDto> findOrderDtoByOrderNumber(String orderNumber);
+
+    List<OrderDto> findAllOrderDtos();
+
+    List<OrderDto> findOrderDtosByCustomerId(Long customerId);
+
+    List<OrderDto> findOrderDtosByCustomerIdAndStatus(Long customerId, OrderStatus status);
+
+    List<OrderDto> findOrderDtosByStatusAndDateRange(OrderStatus status, LocalDateTime startDate,
             LocalDateTime endDate);
+
+    List<OrderDto> findOrderDtosByStatus(OrderStatus status, OrderCursor after, int limit);
+
+    void forEachOrderDtoChunk(int chunkSize, Consumer<List<OrderDto>> consumer);
+
+    List<OrderDto> findOrderHeadersForUpdate(Collection<Long> ids);
+
+    List<OrderDto> findOrderHeadersForUpdate(OrderStatus status, Long customerId, LocalDateTime startDate,
+            LocalDateTime endDate, int limit);
+
+    long updateStatus(Collection<Long> ids, Collection<OrderStatus> fromStatuses, OrderStatus status);
+
+    List<OrderStatsDto.StatusStats> aggregateByStatus(LocalDateTime from, LocalDateTime to);
+
+    List<OrderStatsDto.PeriodStats> aggregateByPeriod(LocalDateTime from, LocalDateTime to, OrderStatsDto.Bucket bucket);
+
+    List<OrderStatsDto.ProductStats> aggregateByProduct(LocalDateTime from, LocalDateTime to);
 }
\ No newline at end of file
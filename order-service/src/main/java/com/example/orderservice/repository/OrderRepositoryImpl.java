@@ -1,12 +1,32 @@
 package com.example.orderservice.repository;
 
-import com.example.orderservice.entity.OrderEntity;
+import com.example.orderservice.dto.OrderDto;
+import com.example.orderservice.dto.OrderItemDto;
+import com.example.orderservice.dto.OrderStatsDto;
 import com.example.orderservice.entity.OrderEntity.OrderStatus;
 import static com.example.orderservice.entity.QOrderEntity.orderEntity;
+import static com.example.orderservice.entity.QOrderItemEntity.orderItemEntity;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -18,26 +38,263 @@ public class OrderRepositoryImpl implements OrderRepositoryCustom {
                 this.queryFactory = new JPAQueryFactory(entityManager);
         }
 
+        /*
+         * 조회 API 용 DTO 프로젝션: 주문 헤더와 주문 상품을 각각 쿼리 한 번으로 DTO 에 바로 담습니다.
+         * 엔티티를 영속성 컨텍스트에 올리지 않으므로 변경 감지 스냅샷과 프록시 생성 비용이 없습니다.
+         * customerName 은 호출 측에서 채웁니다.
+         */
+
+        @Override
+        public Optional<OrderDto> findOrderDtoById(Long id) {
+                return fetchOrderDtos(orderEntity.id.eq(id), null).stream().findFirst();
+        }
+
+        @Override
+        public Optional<OrderDto> findOrderDtoByOrderNumber(String orderNumber) {
+                return fetchOrderDtos(orderEntity.orderNumber.eq(orderNumber), null).stream().findFirst();
+        }
+
+        @Override
+        public List<OrderDto> findAllOrderDtos() {
+                return fetchOrderDtos(null, null, orderEntity.orderDate.desc(), orderEntity.id.desc());
+        }
+
+        @Override
+        public List<OrderDto> findOrderDtosByCustomerId(Long customerId) {
+                return fetchOrderDtos(orderEntity.customerId.eq(customerId), null,
+                                orderEntity.orderDate.desc(), orderEntity.id.desc());
+        }
+
+        @Override
+        public List<OrderDto> findOrderDtosByCustomerIdAndStatus(Long customerId, OrderStatus status) {
+                return fetchOrderDtos(
+                                orderEntity.customerId.eq(customerId)
+                                                .and(orderEntity.status.eq(status)),
+                                null,
+                                orderEntity.orderDate.desc(), orderEntity.id.desc());
+        }
+
+        @Override
+        public List<OrderDto> findOrderDtosByStatusAndDateRange(OrderStatus status, LocalDateTime startDate,
+                        LocalDateTime endDate) {
+                return fetchOrderDtos(
+                                orderEntity.status.eq(status)
+                                                .and(orderEntity.orderDate.between(startDate, endDate)),
+                                null,
+                                orderEntity.orderDate.desc());
+        }
+
+        /**
+         * 상태별 주문을 최신순으로 키셋 페이지네이션하여 조회합니다.
+         * OFFSET 을 사용하지 않으므로 페이지 위치와 관계없이 조회 비용이 일정합니다.
+         */
+        @Override
+        public List<OrderDto> findOrderDtosByStatus(OrderStatus status, OrderCursor after, int limit) {
+                return fetchOrderDtos(
+                                orderEntity.status.eq(status).and(beforeCursor(after)),
+                                (long) limit,
+                                orderEntity.orderDate.desc(), orderEntity.id.desc());
+        }
+
+        /**
+         * 전체 주문을 ID 순서로 chunkSize 건씩 읽어 consumer 에 전달합니다.
+         * 마지막 ID 이후를 다시 조회하는 키셋 방식이며 영속성 컨텍스트를 쓰지 않으므로
+         * 테이블 크기와 관계없이 메모리 사용량이 일정하게 유지됩니다.
+         * 트랜잭션 밖에서 호출하면 묶음 조회마다 커넥션을 잠깐 사용하고 consumer 실행 전에 반환합니다.
+         */
+        @Override
+        public void forEachOrderDtoChunk(int chunkSize, Consumer<List<OrderDto>> consumer) {
+                Long lastId = null;
+                while (true) {
+                        List<OrderDto> chunk = fetchOrderDtos(
+                                        lastId != null ? orderEntity.id.gt(lastId) : null,
+                                        (long) chunkSize,
+                                        orderEntity.id.asc());
+                        if (chunk.isEmpty()) {
+                                return;
+                        }
+                        consumer.accept(chunk);
+                        if (chunk.size() < chunkSize) {
+                                return;
+                        }
+                        lastId = chunk.get(chunk.size() - 1).getId();
+                }
+        }
+
+        /*
+         * 통계 집계는 모두 GROUP BY 한 번으로 DB 에서 계산하고, 엔티티 대신 DTO 로 바로 받습니다.
+         */
+
+        @Override
+        public List<OrderStatsDto.StatusStats> aggregateByStatus(LocalDateTime from, LocalDateTime to) {
+                return queryFactory
+                                .select(Projections.constructor(OrderStatsDto.StatusStats.class,
+                                                orderEntity.status,
+                                                orderEntity.count(),
+                                                orderEntity.totalAmount.sum()))
+                                .from(orderEntity)
+                                .where(orderEntity.orderDate.goe(from), orderEntity.orderDate.lt(to))
+                                .groupBy(orderEntity.status)
+                                .orderBy(orderEntity.status.asc())
+                                .fetch();
+        }
+
         @Override
-        public List<OrderEntity> findOrdersByCustomerIdAndStatus(Long customerId, OrderStatus status) {
+        public List<OrderStatsDto.PeriodStats> aggregateByPeriod(LocalDateTime from, LocalDateTime to,
+                        OrderStatsDto.Bucket bucket) {
+                NumberExpression<Integer> year = orderEntity.orderDate.year();
+                NumberExpression<Integer> month = orderEntity.orderDate.month();
+                NumberExpression<Integer> day = orderEntity.orderDate.dayOfMonth();
+                NumberExpression<Integer> hour = orderEntity.orderDate.hour();
+
+                List<NumberExpression<Integer>> keys = bucket == OrderStatsDto.Bucket.HOUR
+                                ? List.of(year, month, day, hour)
+                                : List.of(year, month, day);
+                List<Expression<?>> columns = new ArrayList<>(keys);
+                columns.add(orderEntity.count());
+                columns.add(orderEntity.totalAmount.sum());
+
                 return queryFactory
-                                .selectFrom(orderEntity)
+                                .select(Projections.constructor(OrderStatsDto.PeriodStats.class,
+                                                columns.toArray(new Expression<?>[0])))
+                                .from(orderEntity)
                                 .where(
-                                                orderEntity.customerId.eq(customerId)
-                                                                .and(orderEntity.status.eq(status)))
-                                .orderBy(orderEntity.orderDate.desc())
+                                                orderEntity.orderDate.goe(from),
+                                                orderEntity.orderDate.lt(to),
+                                                orderEntity.status.ne(OrderStatus.CANCELLED))
+                                .groupBy(keys.toArray(new Expression<?>[0]))
+                                .orderBy(keys.stream()
+                                                .map(NumberExpression::asc)
+                                                .toArray(OrderSpecifier<?>[]::new))
                                 .fetch();
         }
 
         @Override
-        public List<OrderEntity> findOrdersByStatusAndDateRange(OrderStatus status, LocalDateTime startDate,
-                        LocalDateTime endDate) {
+        public List<OrderStatsDto.ProductStats> aggregateByProduct(LocalDateTime from, LocalDateTime to) {
+                NumberExpression<BigDecimal> revenue = orderItemEntity.totalPrice.sum();
+                return queryFactory
+                                .select(Projections.constructor(OrderStatsDto.ProductStats.class,
+                                                orderItemEntity.productId,
+                                                orderItemEntity.productName.max(),
+                                                orderItemEntity.quantity.sum().castToNum(Long.class),
+                                                orderEntity.id.countDistinct(),
+                                                revenue))
+                                .from(orderItemEntity)
+                                .join(orderItemEntity.order, orderEntity)
+                                .where(
+                                                orderEntity.orderDate.goe(from),
+                                                orderEntity.orderDate.lt(to),
+                                                orderEntity.status.ne(OrderStatus.CANCELLED))
+                                .groupBy(orderItemEntity.productId)
+                                .orderBy(revenue.desc(), orderItemEntity.productId.asc())
+                                .fetch();
+        }
+
+        /*
+         * 상태 일괄 변경: 대상 주문 헤더를 잠금 조회한 뒤 UPDATE 한 번으로 상태를 바꿉니다.
+         * 변경은 영속성 컨텍스트를 거치지 않으므로 같은 트랜잭션에서 주문 엔티티를 읽지 않아야 합니다.
+         */
+
+        @Override
+        public List<OrderDto> findOrderHeadersForUpdate(Collection<Long> ids) {
+                return queryFactory
+                                .select(orderHeader())
+                                .from(orderEntity)
+                                .where(orderEntity.id.in(ids))
+                                .orderBy(orderEntity.id.asc())
+                                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                                .fetch();
+        }
+
+        @Override
+        public List<OrderDto> findOrderHeadersForUpdate(OrderStatus status, Long customerId,
+                        LocalDateTime startDate, LocalDateTime endDate, int limit) {
                 return queryFactory
-                                .selectFrom(orderEntity)
+                                .select(orderHeader())
+                                .from(orderEntity)
                                 .where(
-                                                orderEntity.status.eq(status)
-                                                                .and(orderEntity.orderDate.between(startDate, endDate)))
-                                .orderBy(orderEntity.orderDate.desc())
+                                                orderEntity.status.eq(status),
+                                                customerId != null ? orderEntity.customerId.eq(customerId) : null,
+                                                startDate != null ? orderEntity.orderDate.goe(startDate) : null,
+                                                endDate != null ? orderEntity.orderDate.lt(endDate) : null)
+                                .orderBy(orderEntity.id.asc())
+                                .limit(limit)
+                                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
                                 .fetch();
         }
+
+        @Override
+        public long updateStatus(Collection<Long> ids, Collection<OrderStatus> fromStatuses, OrderStatus status) {
+                return queryFactory
+                                .update(orderEntity)
+                                .set(orderEntity.status, status)
+                                .where(
+                                                orderEntity.id.in(ids),
+                                                orderEntity.status.in(fromStatuses))
+                                .execute();
+        }
+
+        private ConstructorExpression<OrderDto> orderHeader() {
+                return Projections.constructor(OrderDto.class,
+                                orderEntity.id,
+                                orderEntity.customerId,
+                                orderEntity.orderNumber,
+                                orderEntity.status,
+                                orderEntity.orderDate,
+                                orderEntity.totalAmount);
+        }
+
+        private List<OrderDto> fetchOrderDtos(Predicate where, Long limit, OrderSpecifier<?>... orderBy) {
+                JPAQuery<OrderDto> query = queryFactory
+                                .select(orderHeader())
+                                .from(orderEntity)
+                                .where(where)
+                                .orderBy(orderBy);
+                if (limit != null) {
+                        query.limit(limit);
+                }
+                List<OrderDto> orders = query.fetch();
+                fetchOrderItemDtos(orders);
+                return orders;
+        }
+
+        /**
+         * 주문 ID 의 IN 조건 한 번으로 주문 상품 DTO 를 조회하여 각 주문에 채웁니다.
+         */
+        private void fetchOrderItemDtos(List<OrderDto> orders) {
+                Map<Long, OrderDto> ordersById = new HashMap<>();
+                for (OrderDto order : orders) {
+                        order.setItems(new ArrayList<>());
+                        ordersById.put(order.getId(), order);
+                }
+                if (ordersById.isEmpty()) {
+                        return;
+                }
+
+                List<Tuple> rows = queryFactory
+                                .select(orderItemEntity.order.id,
+                                                Projections.constructor(OrderItemDto.class,
+                                                                orderItemEntity.id,
+                                                                orderItemEntity.productId,
+                                                                orderItemEntity.productName,
+                                                                orderItemEntity.quantity,
+                                                                orderItemEntity.unitPrice,
+                                                                orderItemEntity.totalPrice))
+                                .from(orderItemEntity)
+                                .where(orderItemEntity.order.id.in(ordersById.keySet()))
+                                .orderBy(orderItemEntity.id.asc())
+                                .fetch();
+                for (Tuple row : rows) {
+                        ordersById.get(row.get(0, Long.class)).getItems().add(row.get(1, OrderItemDto.class));
+                }
+        }
+
+        private BooleanExpression beforeCursor(OrderCursor cursor) {
+                if (cursor == null) {
+                        return null;
+                }
+                return orderEntity.orderDate.lt(cursor.getOrderDate())
+                                .or(orderEntity.orderDate.eq(cursor.getOrderDate())
+                                                .and(orderEntity.id.lt(cursor.getId())));
+        }
 }
\ No newline at end of file
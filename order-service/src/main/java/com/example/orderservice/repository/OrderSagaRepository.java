@@ -0,0 +1,22 @@
+package com.example.orderservice.repository;
+
+import com.example.orderservice.entity.OrderSagaEntity;
+import com.example.orderservice.entity.OrderSagaEntity.SagaStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OrderSagaRepository extends JpaRepository<OrderSagaEntity, Long> {
+
+    Optional<OrderSagaEntity> findByOrderId(Long orderId);
+
+    @Query("select s.orderId from OrderSagaEntity s where s.status = :status and s.updatedAt < :before order by s.updatedAt")
+    List<Long> findStaleOrderIds(@Param("status") SagaStatus status, @Param("before") LocalDateTime before,
+            Pageable pageable);
+}
\ No newline at end of file
@@ -0,0 +1,65 @@
+package com.example.orderservice.service;
+
+import com.example.orderservice.client.CustomerClient;
+import com.example.orderservice.dto.CustomerDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 고객 정보 로컬 캐시
+ *
+ * 주문 목록 조회 시 고객 이름을 얻기 위해 주문마다 customer-service 를 호출하지 않도록
+ * 크기와 TTL 이 제한된 캐시를 두고, 캐시에 없는 고객만 일괄 조회 API 로 가져옵니다.
+ */
+@Service
+public class CustomerCacheService {
+
+    private final CustomerClient customerClient;
+    private final Cache<Long, CustomerDto> cache;
+    private final int batchSize;
+
+    public CustomerCacheService(CustomerClient customerClient,
+            @Value("${order.customer-cache.maximum-size:10000}") long maximumSize,
+            @Value("${order.customer-cache.ttl-seconds:300}") long ttlSeconds,
+            @Value("${order.customer-cache.batch-size:100}") int batchSize) {
+        this.customerClient = customerClient;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    public CustomerDto getCustomer(Long id) {
+        return cache.get(id, customerClient::getCustomer);
+    }
+
+    /**
+     * 여러 고객을 조회합니다.
+     * 존재하지 않는 고객은 결과 Map 에 포함되지 않습니다.
+     */
+    public Map<Long, CustomerDto> getCustomers(Collection<Long> ids) {
+        return cache.getAll(ids, this::loadCustomers);
+    }
+
+    private Map<Long, CustomerDto> loadCustomers(Set<? extends Long> ids) {
+        List<Long> missing = new ArrayList<>(ids);
+        Map<Long, CustomerDto> loaded = new HashMap<>();
+        for (int from = 0; from < missing.size(); from += batchSize) {
+            List<Long> batch = missing.subList(from, Math.min(from + batchSize, missing.size()));
+            for (CustomerDto customer : customerClient.getCustomers(batch)) {
+                loaded.put(customer.getId(), customer);
+            }
+        }
+        return loaded;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,159 @@
+package com.example.orderservice.service;
+
+import com.example.orderservice.dto.CustomerDto;
+import com.example.orderservice.dto.CustomerOrderSummaryDto;
+import com.example.orderservice.dto.OrderDto;
+import com.example.orderservice.entity.CustomerOrderSummaryEntity;
+import com.example.orderservice.entity.OrderEntity;
+import com.example.orderservice.entity.OrderEntity.OrderStatus;
+import com.example.orderservice.repository.CustomerOrderSummaryRepository;
+import com.example.orderservice.repository.OrderRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 고객별 주문 요약 읽기 모델 관리
+ *
+ * 주문 변경 트랜잭션 안에서 요약 행을 잠그고 증분으로 갱신합니다.
+ * 요약 행이 없는 고객은 같은 트랜잭션에서 빈 행을 추가(insert-if-absent)하고 잠근 뒤, 현재 트랜잭션에서 보이는 주문으로 한 번 재구성합니다.
+ * 별도 트랜잭션(커넥션)을 열지 않으므로 커넥션 풀이 고갈된 상황에서도 교착되지 않습니다.
+ */
+@Slf4j
+@Service
+public class CustomerOrderSummaryService {
+
+    private final CustomerOrderSummaryRepository customerOrderSummaryRepository;
+    private final OrderRepository orderRepository;
+    private final CustomerCacheService customerCacheService;
+    private final TransactionTemplate transactionTemplate;
+    private final int recentOrderLimit;
+
+    public CustomerOrderSummaryService(CustomerOrderSummaryRepository customerOrderSummaryRepository,
+            OrderRepository orderRepository,
+            CustomerCacheService customerCacheService,
+            PlatformTransactionManager transactionManager,
+            @Value("${order.summary.recent-orders:5}") int recentOrderLimit) {
+        this.customerOrderSummaryRepository = customerOrderSummaryRepository;
+        this.orderRepository = orderRepository;
+        this.customerCacheService = customerCacheService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.recentOrderLimit = recentOrderLimit;
+    }
+
+    /**
+     * 새 주문을 요약에 반영합니다. 주문을 저장하는 트랜잭션 안에서 호출해야 합니다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(OrderEntity order) {
+        lockSummary(order.getCustomerId())
+                .ifPresent(summary -> summary.addOrder(order, recentOrderLimit));
+    }
+
+    /**
+     * 주문 상태 변경을 요약에 반영합니다. 주문 상태를 바꾸는 트랜잭션 안에서 호출해야 합니다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordStatusChange(OrderEntity order, OrderStatus previousStatus) {
+        if (order.getStatus() == previousStatus) {
+            return;
+        }
+        lockSummary(order.getCustomerId())
+                .ifPresent(summary -> summary.changeStatus(order, previousStatus));
+    }
+
+    /**
+     * 일괄 상태 변경을 요약에 반영합니다. 고객 ID 순서로 요약 행을 잠가 동시 일괄 변경 간 교착을 피합니다.
+     *
+     * @param orders    변경 전 상태를 담은 주문 헤더 목록
+     * @param newStatus 변경된 상태
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordStatusChanges(List<OrderDto> orders, OrderStatus newStatus) {
+        Map<Long, List<OrderDto>> ordersByCustomer = orders.stream()
+                .filter(order -> order.getStatus() != newStatus)
+                .collect(Collectors.groupingBy(OrderDto::getCustomerId, TreeMap::new, Collectors.toList()));
+
+        ordersByCustomer.forEach((customerId, customerOrders) -> lockSummary(customerId)
+                .ifPresent(summary -> {
+                    for (OrderDto order : customerOrders) {
+                        summary.changeStatus(order.getId(), order.getTotalAmount(), order.getStatus(), newStatus);
+                    }
+                }));
+    }
+
+    /**
+     * 고객별 주문 요약을 조회합니다.
+     * 고객 이름은 로컬 캐시에서 가져오며, 고객 서비스 장애 시 "Unknown Customer" 로 표시합니다.
+     */
+    public CustomerOrderSummaryDto getSummary(Long customerId) {
+        CustomerOrderSummaryEntity summary = customerOrderSummaryRepository.findById(customerId)
+                .filter(CustomerOrderSummaryEntity::isInitialized)
+                .orElseGet(() -> transactionTemplate.execute(status -> {
+                    lockSummary(customerId);
+                    return customerOrderSummaryRepository.findById(customerId)
+                            .orElseThrow(() -> new RuntimeException("Order summary not found for customer: " + customerId));
+                }));
+
+        String customerName;
+        try {
+            CustomerDto customer = customerCacheService.getCustomer(customerId);
+            customerName = customer.getName();
+        } catch (Exception e) {
+            customerName = "Unknown Customer";
+        }
+
+        return mapToSummaryDto(summary, customerName);
+    }
+
+    /**
+     * 요약 행을 잠급니다. 행이 없으면 현재 트랜잭션에서 빈 행을 추가한 뒤 잠급니다.
+     * 아직 재구성되지 않은 행이면 현재 트랜잭션에서 보이는 주문(이번 변경 포함)으로 재구성하고,
+     * 이번 변경이 이미 반영되었으므로 빈 값을 반환하여 증분 갱신을 건너뛰게 합니다.
+     */
+    private Optional<CustomerOrderSummaryEntity> lockSummary(Long customerId) {
+        CustomerOrderSummaryEntity summary = customerOrderSummaryRepository.findForUpdate(customerId)
+                .orElseGet(() -> {
+                    customerOrderSummaryRepository.insertIfAbsent(customerId);
+                    return customerOrderSummaryRepository.findForUpdate(customerId)
+                            .orElseThrow(() -> new RuntimeException("Order summary not found for customer: " + customerId));
+                });
+        if (summary.isInitialized()) {
+            return Optional.of(summary);
+        }
+
+        summary.rebuild(orderRepository.findByCustomerId(customerId), recentOrderLimit);
+        log.debug("주문 요약 재구성: customerId={}, orderCount={}", customerId, summary.getOrderCount());
+        return Optional.empty();
+    }
+
+    private CustomerOrderSummaryDto mapToSummaryDto(CustomerOrderSummaryEntity summary, String customerName) {
+        List<CustomerOrderSummaryDto.RecentOrderDto> recentOrders = summary.getRecentOrders().stream()
+                .map(recent -> CustomerOrderSummaryDto.RecentOrderDto.builder()
+                        .id(recent.getOrderId())
+                        .orderNumber(recent.getOrderNumber())
+                        .status(recent.getStatus())
+                        .orderDate(recent.getOrderDate())
+                        .totalAmount(recent.getTotalAmount())
+                        .build())
+                .collect(Collectors.toList());
+
+        return CustomerOrderSummaryDto.builder()
+                .customerId(summary.getCustomerId())
+                .customerName(customerName)
+                .orderCount(summary.getOrderCount())
+                .totalSpent(summary.getTotalSpent())
+                .lastOrderDate(summary.getLastOrderDate())
+                .recentOrders(recentOrders)
+                .build();
+    }
+}
\ No newline at end of file
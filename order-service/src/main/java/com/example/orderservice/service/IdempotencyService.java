@@ -0,0 +1,184 @@
+package com.example.orderservice.service;
+
+import com.example.orderservice.entity.IdempotencyKeyEntity;
+import com.example.orderservice.repository.IdempotencyKeyRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Idempotency-Key 기반 주문 생성 중복 제거
+ *
+ * 키를 먼저 별도 트랜잭션으로 선점한 뒤 주문을 생성하고, 주문과 같은 트랜잭션에서 주문 ID 를 기록합니다.
+ * 주문 생성에 실패하면 선점한 키를 해제하여 클라이언트가 다시 시도할 수 있습니다.
+ * 선점할 때마다 새 토큰을 발급하며, 완료와 해제는 그 토큰으로 선점한 키에만 적용됩니다.
+ *
+ * 같은 키로 다른 요청이 오면 422 를 반환하며, 요청 비교에는 요청 본문의 SHA-256 지문을 사용합니다.
+ * 선점한 인스턴스가 완료나 해제 없이 종료되면 키는 lease-seconds 이후 다시 선점할 수 있고,
+ * 선점 기간이 지나 다른 요청이 이어받은 키는 원래 요청이 완료하거나 해제할 수 없으므로
+ * 같은 키로 주문이 두 번 저장되지 않습니다.
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final TransactionTemplate requiresNewTemplate;
+    private final ObjectMapper objectMapper;
+    private final long ttlHours;
+    private final long leaseSeconds;
+
+    public IdempotencyService(IdempotencyKeyRepository idempotencyKeyRepository,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            @Value("${order.idempotency.ttl-hours:24}") long ttlHours,
+            @Value("${order.idempotency.lease-seconds:60}") long leaseSeconds) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.objectMapper = objectMapper;
+        this.ttlHours = ttlHours;
+        this.leaseSeconds = leaseSeconds;
+    }
+
+    /**
+     * 키를 선점합니다.
+     *
+     * @param request 요청 본문 (지문 계산용)
+     * @return 이미 처리된 요청이면 기존 주문 ID 를 가진 선점 결과, 새로 선점했으면 선점 토큰을 가진 선점 결과
+     * @throws ResponseStatusException 같은 키의 요청이 처리 중이면 409, 요청 내용이 다르면 422
+     */
+    public Claim claim(String idempotencyKey, Object request) {
+        String requestHash = fingerprint(request);
+        try {
+            return requiresNewTemplate.execute(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                Optional<IdempotencyKeyEntity> existing = idempotencyKeyRepository.findById(idempotencyKey);
+                if (existing.isPresent()) {
+                    return resolveExisting(existing.get(), requestHash, now);
+                }
+
+                String claimToken = UUID.randomUUID().toString();
+                idempotencyKeyRepository.saveAndFlush(IdempotencyKeyEntity.builder()
+                        .idempotencyKey(idempotencyKey)
+                        .requestHash(requestHash)
+                        .createdAt(now)
+                        .leaseExpiresAt(now.plusSeconds(leaseSeconds))
+                        .claimToken(claimToken)
+                        .build());
+                return new Claim(idempotencyKey, claimToken, null);
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 다른 요청이 같은 키를 동시에 선점한 경우
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "Request with the same Idempotency-Key is in progress: " + idempotencyKey, e);
+        }
+    }
+
+    /**
+     * 주문을 저장하는 트랜잭션 안에서 주문 ID 를 기록합니다.
+     * 선점 기간이 지나 다른 요청이 키를 다시 선점했다면 409 를 던져 주문 저장을 롤백합니다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void complete(Claim claim, Long orderId) {
+        if (idempotencyKeyRepository.complete(claim.getIdempotencyKey(), claim.getClaimToken(), orderId) == 0) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "Request with the same Idempotency-Key was claimed by another attempt: "
+                            + claim.getIdempotencyKey());
+        }
+    }
+
+    /**
+     * 주문 생성에 실패한 경우 선점한 키를 해제하여 재시도할 수 있게 합니다.
+     * 선점 기간이 지나 다른 요청이 이어받은 키는 그 요청의 선점이므로 삭제하지 않습니다.
+     */
+    public void release(Claim claim) {
+        Integer released = requiresNewTemplate.execute(status ->
+                idempotencyKeyRepository.release(claim.getIdempotencyKey(), claim.getClaimToken()));
+        if (released == null || released == 0) {
+            log.debug("다른 요청이 선점한 Idempotency-Key 는 해제하지 않음: {}", claim.getIdempotencyKey());
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 키를 주기적으로 삭제합니다.
+     */
+    @Scheduled(fixedDelayString = "${order.idempotency.purge-interval-ms:3600000}")
+    public void purgeExpiredKeys() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(ttlHours);
+        Integer deleted = requiresNewTemplate.execute(
+                status -> idempotencyKeyRepository.deleteCreatedBefore(cutoff));
+        log.debug("만료된 Idempotency-Key 삭제: {}건", deleted);
+    }
+
+    private Claim resolveExisting(IdempotencyKeyEntity key, String requestHash, LocalDateTime now) {
+        if (!Objects.equals(key.getRequestHash(), requestHash)) {
+            throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY,
+                    "Idempotency-Key was already used with a different request: " + key.getIdempotencyKey());
+        }
+        if (key.isCompleted()) {
+            return new Claim(key.getIdempotencyKey(), null, key.getOrderId());
+        }
+        // 선점한 요청이 선점 기간 안에 끝나지 않았으면 (비정상 종료 등) 이 요청이 새 토큰으로 이어받음
+        String claimToken = UUID.randomUUID().toString();
+        if (idempotencyKeyRepository.reclaimExpired(key.getIdempotencyKey(), now,
+                now.plusSeconds(leaseSeconds), claimToken) == 1) {
+            log.warn("선점 기간이 지난 Idempotency-Key 를 다시 선점: {}", key.getIdempotencyKey());
+            return new Claim(key.getIdempotencyKey(), claimToken, null);
+        }
+        throw new ResponseStatusException(HttpStatus.CONFLICT,
+                "Request with the same Idempotency-Key is in progress: " + key.getIdempotencyKey());
+    }
+
+    /**
+     * 요청 본문의 지문을 계산합니다.
+     * 역직렬화한 요청을 다시 JSON 으로 직렬화하여 SHA-256 을 구하므로 원본의 공백이나 속성 순서와 무관합니다.
+     */
+    private String fingerprint(Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(objectMapper.writeValueAsBytes(request)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to serialize request for Idempotency-Key", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * 키 선점 결과
+     * 이미 완료된 키이면 orderId 를, 새로 선점했으면 완료와 해제에 쓸 claimToken 을 가집니다.
+     */
+    @Getter
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class Claim {
+        private final String idempotencyKey;
+        private final String claimToken;
+        private final Long orderId;
+
+        public boolean isCompleted() {
+            return orderId != null;
+        }
+    }
+}
\ No newline at end of file
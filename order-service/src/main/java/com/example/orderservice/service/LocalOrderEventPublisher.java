@@ -0,0 +1,24 @@
+package com.example.orderservice.service;
+
+import com.example.orderservice.dto.OrderEvent;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기본 발행기: 같은 프로세스의 @EventListener 로 이벤트를 전달합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "order.outbox.publisher", havingValue = "local", matchIfMissing = true)
+public class LocalOrderEventPublisher implements OrderEventPublisher {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Override
+    public void publish(List<OrderEvent> events) {
+        events.forEach(applicationEventPublisher::publishEvent);
+    }
+}
\ No newline at end of file
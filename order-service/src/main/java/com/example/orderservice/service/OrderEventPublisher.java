@@ -0,0 +1,17 @@
+package com.example.orderservice.service;
+
+import com.example.orderservice.dto.OrderEvent;
+import java.util.List;
+
+/**
+ * 아웃박스에서 읽은 주문 이벤트를 외부로 전달합니다.
+ * 예외 없이 반환되면 목록 전체가 발행된 것으로 기록되며, 예외가 발생하면 다음 발행 주기에 다시 전달됩니다.
+ * 같은 이벤트가 두 번 이상 전달될 수 있으므로 소비자는 eventId 로 중복을 걸러야 합니다.
+ */
+public interface OrderEventPublisher {
+
+    /**
+     * @param events ID 순서로 정렬된 이벤트 목록
+     */
+    void publish(List<OrderEvent> events);
+}
\ No newline at end of file
@@ -0,0 +1,156 @@
+package com.example.orderservice.service;
+
+import com.example.orderservice.client.CustomerClient;
+import com.example.orderservice.client.ProductClient;
+import com.example.orderservice.dto.CustomerDto;
+import com.example.orderservice.dto.ProductDto;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 주문 생성에 필요한 고객/상품 정보를 원격 서비스에서 조회합니다.
+ *
+ * 병렬 모드에서는 고객 조회와 상품 조회를 동시에 실행하므로 전체 지연 시간은
+ * 가장 느린 호출에 맞춰집니다. 상품 ID는 배치 단위로 나누어 요청당 최대
+ * maxConcurrency 개의 호출만 동시에 실행되며, 전체 조회에는 하나의 타임아웃이 적용됩니다.
+ *
+ * 타임아웃 시 future 를 취소해도 진행 중인 Feign 호출은 중단되지 않으므로, 개별 호출은 Feign 읽기 타임아웃
+ * (spring.cloud.openfeign.client.config.*.read-timeout, 조회 타임아웃과 같은 값)으로 끝나고
+ * 레인은 기한이 지나면 남은 배치를 호출하지 않습니다.
+ */
+@Service
+public class OrderLookupService {
+
+    private final CustomerClient customerClient;
+    private final ProductClient productClient;
+    private final Executor executor;
+    private final boolean parallelEnabled;
+    private final int maxConcurrency;
+    private final int productBatchSize;
+    private final long timeoutMillis;
+
+    public OrderLookupService(CustomerClient customerClient,
+            ProductClient productClient,
+            @Qualifier("orderLookupExecutor") Executor executor,
+            @Value("${order.lookup.parallel-enabled:true}") boolean parallelEnabled,
+            @Value("${order.lookup.max-concurrency:4}") int maxConcurrency,
+            @Value("${order.lookup.product-batch-size:100}") int productBatchSize,
+            @Value("${order.lookup.timeout-ms:5000}") long timeoutMillis) {
+        this.customerClient = customerClient;
+        this.productClient = productClient;
+        this.executor = executor;
+        this.parallelEnabled = parallelEnabled;
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+        this.productBatchSize = Math.max(1, productBatchSize);
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * 고객과 상품 정보를 조회합니다.
+     *
+     * @param customerId 고객 ID
+     * @param productIds 중복 없는 상품 ID 목록
+     * @return 조회 결과
+     */
+    public OrderLookup lookup(Long customerId, List<Long> productIds) {
+        List<List<Long>> batches = partition(productIds);
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+
+        if (!parallelEnabled) {
+            CustomerDto customer = customerClient.getCustomer(customerId);
+            List<ProductDto> products = fetchBatches(batches, deadline);
+            return new OrderLookup(customer, toProductMap(products));
+        }
+
+        CompletableFuture<CustomerDto> customerFuture = CompletableFuture
+                .supplyAsync(() -> customerClient.getCustomer(customerId), executor);
+
+        // 요청당 동시 호출 수를 제한하기 위해 배치를 maxConcurrency 개의 레인으로 분배
+        int laneCount = Math.min(maxConcurrency, batches.size());
+        List<CompletableFuture<List<ProductDto>>> laneFutures = new ArrayList<>(laneCount);
+        for (int lane = 0; lane < laneCount; lane++) {
+            List<List<Long>> laneBatches = new ArrayList<>();
+            for (int i = lane; i < batches.size(); i += laneCount) {
+                laneBatches.add(batches.get(i));
+            }
+            laneFutures.add(CompletableFuture.supplyAsync(() -> fetchBatches(laneBatches, deadline), executor));
+        }
+
+        List<CompletableFuture<?>> all = new ArrayList<>(laneFutures);
+        all.add(customerFuture);
+
+        try {
+            CompletableFuture.allOf(all.toArray(new CompletableFuture<?>[0]))
+                    .orTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+                    .join();
+        } catch (CompletionException e) {
+            all.forEach(future -> future.cancel(true));
+            throw unwrap(e);
+        }
+
+        List<ProductDto> products = laneFutures.stream()
+                .flatMap(future -> future.join().stream())
+                .collect(Collectors.toList());
+        return new OrderLookup(customerFuture.join(), toProductMap(products));
+    }
+
+    private List<ProductDto> fetchBatches(List<List<Long>> batches, long deadline) {
+        List<ProductDto> products = new ArrayList<>();
+        for (List<Long> batch : batches) {
+            // 기한이 지난 레인은 남은 배치를 호출하지 않고 스레드를 반환
+            if (System.nanoTime() - deadline >= 0) {
+                throw new RuntimeException("Order lookup timed out after " + timeoutMillis + " ms");
+            }
+            products.addAll(productClient.getProducts(batch));
+        }
+        return products;
+    }
+
+    private List<List<Long>> partition(List<Long> ids) {
+        List<List<Long>> batches = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += productBatchSize) {
+            batches.add(ids.subList(from, Math.min(from + productBatchSize, ids.size())));
+        }
+        return batches;
+    }
+
+    private Map<Long, ProductDto> toProductMap(List<ProductDto> products) {
+        return products.stream()
+                .collect(Collectors.toMap(ProductDto::getId, Function.identity(), (first, second) -> first));
+    }
+
+    private RuntimeException unwrap(CompletionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof TimeoutException) {
+            return new RuntimeException("Order lookup timed out after " + timeoutMillis + " ms", cause);
+        }
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        return new RuntimeException("Order lookup failed", cause);
+    }
+
+    /**
+     * 원격 조회 결과
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class OrderLookup {
+        private final CustomerDto customer;
+        private final Map<Long, ProductDto> products;
+    }
+}
\ No newline at end of file
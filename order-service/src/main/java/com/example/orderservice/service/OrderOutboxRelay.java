@@ -0,0 +1,219 @@
+package com.example.orderservice.service;
+
+import com.example.orderservice.dto.OrderEvent;
+import com.example.orderservice.entity.OrderOutboxEntity;
+import com.example.orderservice.repository.OrderOutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 아웃박스에 쌓인 주문 이벤트를 묶음 단위로 발행합니다.
+ *
+ * 짧은 트랜잭션에서 발행 대기 행을 SKIP LOCKED 로 잠가 임대 시각을 기록한 뒤, 트랜잭션 밖에서 발행하고
+ * 발행 완료를 표시합니다. 여러 인스턴스가 동시에 실행되어도 서로 다른 묶음을 가져가며,
+ * 인스턴스가 중단되면 임대가 만료된 뒤 다시 발행됩니다 (최소 한 번 전달).
+ *
+ * 같은 주문의 이벤트는 발생 순서대로 발행됩니다. 앞선 미발행 이벤트가 같은 묶음에 없으면
+ * (다른 인스턴스가 발행 중이거나 임대 중) 그 주문의 이후 이벤트는 가져가지 않고 다음 주기로 미룹니다.
+ * 발행에 실패한 묶음은 한 건씩 다시 발행하여, 앞선 성공분은 완료 처리하고 처음 실패한 행에만 실패 횟수를 더한 뒤
+ * 나머지 행의 임대를 바로 해제합니다 (다음 주기에 가장 먼저 다시 발행).
+ * 실패 횟수가 최대치에 이른 행은 발행을 중단(failedAt)하여, 발행할 수 없는 한 건이 다른 주문의 이벤트 발행까지
+ * 막지 않도록 합니다. 그 주문의 이후 이벤트는 순서를 지키기 위해 계속 보류됩니다.
+ */
+@Slf4j
+@Service
+public class OrderOutboxRelay {
+
+    private final OrderOutboxRepository orderOutboxRepository;
+    private final OrderEventPublisher orderEventPublisher;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final long leaseSeconds;
+    private final int maxAttempts;
+    private final long retentionHours;
+
+    public OrderOutboxRelay(OrderOutboxRepository orderOutboxRepository,
+            OrderEventPublisher orderEventPublisher,
+            ObjectMapper objectMapper,
+            TransactionTemplate transactionTemplate,
+            @Value("${order.outbox.batch-size:100}") int batchSize,
+            @Value("${order.outbox.max-batches-per-run:50}") int maxBatchesPerRun,
+            @Value("${order.outbox.lease-seconds:30}") long leaseSeconds,
+            @Value("${order.outbox.max-attempts:10}") int maxAttempts,
+            @Value("${order.outbox.retention-hours:24}") long retentionHours) {
+        this.orderOutboxRepository = orderOutboxRepository;
+        this.orderEventPublisher = orderEventPublisher;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.leaseSeconds = leaseSeconds;
+        this.maxAttempts = maxAttempts;
+        this.retentionHours = retentionHours;
+    }
+
+    /**
+     * 가득 찬 묶음이 나오는 동안 연속으로 발행하고, 대기 행이 줄어들면 다음 주기까지 쉽니다.
+     */
+    @Scheduled(fixedDelayString = "${order.outbox.relay-interval-ms:1000}")
+    public void relay() {
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            if (relayBatch() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return 발행한 이벤트 수
+     */
+    int relayBatch() {
+        List<OrderOutboxEntity> batch = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<OrderOutboxEntity> rows = keepOrderSequence(
+                    orderOutboxRepository.findPublishable(now, PageRequest.of(0, batchSize)));
+            rows.forEach(row -> row.lease(now.plusSeconds(leaseSeconds)));
+            return rows;
+        });
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            orderEventPublisher.publish(batch.stream()
+                    .map(this::toEvent)
+                    .collect(Collectors.toList()));
+        } catch (Exception e) {
+            log.warn("주문 이벤트 묶음 발행 실패: {}~{}",
+                    batch.get(0).getId(), batch.get(batch.size() - 1).getId(), e);
+            if (batch.size() == 1) {
+                recordFailure(batch.get(0), e);
+                return 0;
+            }
+            return relayOneByOne(batch);
+        }
+
+        markPublished(batch);
+        return batch.size();
+    }
+
+    /**
+     * 묶음을 ID 순서로 한 건씩 발행하고, 처음 실패한 행에서 멈춥니다.
+     * 발행 대상 쪽 장애일 수도 있으므로 실패 횟수는 처음 실패한 행에만 더하고, 시도하지 않은 행은 임대만 해제합니다.
+     */
+    private int relayOneByOne(List<OrderOutboxEntity> batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            OrderOutboxEntity row = batch.get(i);
+            try {
+                orderEventPublisher.publish(List.of(toEvent(row)));
+            } catch (Exception e) {
+                markPublished(batch.subList(0, i));
+                recordFailure(row, e);
+                List<Long> untried = ids(batch.subList(i + 1, batch.size()));
+                if (!untried.isEmpty()) {
+                    // 임대를 남겨 두면 그동안 다른 인스턴스가 이후 이벤트를 먼저 발행하므로 바로 해제
+                    transactionTemplate.executeWithoutResult(status -> orderOutboxRepository.clearLease(untried));
+                }
+                return i;
+            }
+        }
+        markPublished(batch);
+        return batch.size();
+    }
+
+    private void recordFailure(OrderOutboxEntity row, Exception e) {
+        int attempts = row.getAttempts() + 1;
+        if (attempts >= maxAttempts) {
+            log.error("주문 이벤트 발행 {}회 실패, 발행을 중단합니다 (같은 주문의 이후 이벤트도 보류): eventId={}, orderId={}",
+                    attempts, row.getId(), row.getOrderId(), e);
+            transactionTemplate.executeWithoutResult(
+                    status -> orderOutboxRepository.markFailed(row.getId(), LocalDateTime.now()));
+            return;
+        }
+        log.warn("주문 이벤트 발행 실패 ({}/{}), 다음 주기에 재시도합니다: eventId={}, orderId={}",
+                attempts, maxAttempts, row.getId(), row.getOrderId());
+        transactionTemplate.executeWithoutResult(status -> orderOutboxRepository.recordFailedAttempt(row.getId()));
+    }
+
+    private void markPublished(List<OrderOutboxEntity> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        List<Long> ids = ids(rows);
+        transactionTemplate.executeWithoutResult(
+                status -> orderOutboxRepository.markPublished(ids, LocalDateTime.now()));
+    }
+
+    private List<Long> ids(List<OrderOutboxEntity> rows) {
+        return rows.stream()
+                .map(OrderOutboxEntity::getId)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 보관 기간이 지난 발행 완료 행을 주기적으로 삭제합니다.
+     */
+    @Scheduled(fixedDelayString = "${order.outbox.purge-interval-ms:3600000}")
+    public void purgePublished() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(retentionHours);
+        Integer deleted = transactionTemplate.execute(
+                status -> orderOutboxRepository.deletePublishedBefore(cutoff));
+        log.debug("발행 완료된 주문 이벤트 삭제: {}건", deleted);
+    }
+
+    /**
+     * 같은 주문의 앞선 미발행 이벤트가 모두 묶음 안에 있는 행만 남깁니다.
+     *
+     * @param rows ID 순서로 정렬된 발행 대기 행
+     */
+    private List<OrderOutboxEntity> keepOrderSequence(List<OrderOutboxEntity> rows) {
+        if (rows.isEmpty()) {
+            return rows;
+        }
+
+        Set<Long> orderIds = rows.stream()
+                .map(OrderOutboxEntity::getOrderId)
+                .collect(Collectors.toSet());
+        Map<Long, List<Long>> unpublishedIds = orderOutboxRepository.findUnpublishedByOrderIds(orderIds).stream()
+                .collect(Collectors.groupingBy(OrderOutboxEntity::getOrderId,
+                        Collectors.mapping(OrderOutboxEntity::getId, Collectors.toList())));
+
+        Set<Long> kept = new HashSet<>();
+        List<OrderOutboxEntity> sequenced = new ArrayList<>();
+        for (OrderOutboxEntity row : rows) {
+            boolean ready = unpublishedIds.getOrDefault(row.getOrderId(), List.of()).stream()
+                    .filter(id -> id < row.getId())
+                    .allMatch(kept::contains);
+            if (ready) {
+                kept.add(row.getId());
+                sequenced.add(row);
+            }
+        }
+        return sequenced;
+    }
+
+    private OrderEvent toEvent(OrderOutboxEntity row) {
+        try {
+            OrderEvent event = objectMapper.readValue(row.getPayload(), OrderEvent.class);
+            event.setEventId(row.getId());
+            return event;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to read order event: " + row.getId(), e);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,70 @@
+package com.example.orderservice.service;
+
+import com.example.orderservice.dto.OrderDto;
+import com.example.orderservice.dto.OrderEvent;
+import com.example.orderservice.entity.OrderEntity;
+import com.example.orderservice.entity.OrderOutboxEntity;
+import com.example.orderservice.repository.OrderOutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 주문 이벤트를 아웃박스에 기록합니다.
+ * 주문 변경과 같은 트랜잭션에서만 호출되므로 주문이 커밋되면 이벤트도 반드시 남습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderOutboxService {
+
+    private final OrderOutboxRepository orderOutboxRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(OrderEntity order, OrderEvent.Type type) {
+        save(OrderEvent.builder()
+                .type(type)
+                .orderId(order.getId())
+                .orderNumber(order.getOrderNumber())
+                .customerId(order.getCustomerId())
+                .status(order.getStatus())
+                .totalAmount(order.getTotalAmount())
+                .occurredAt(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * 엔티티를 읽지 않고 변경한 주문(일괄 상태 변경)의 이벤트를 주문 헤더로 기록합니다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(OrderDto order, OrderEvent.Type type) {
+        save(OrderEvent.builder()
+                .type(type)
+                .orderId(order.getId())
+                .orderNumber(order.getOrderNumber())
+                .customerId(order.getCustomerId())
+                .status(order.getStatus())
+                .totalAmount(order.getTotalAmount())
+                .occurredAt(LocalDateTime.now())
+                .build());
+    }
+
+    private void save(OrderEvent event) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize order event", e);
+        }
+
+        orderOutboxRepository.save(OrderOutboxEntity.builder()
+                .orderId(event.getOrderId())
+                .eventType(event.getType().name())
+                .payload(payload)
+                .build());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,352 @@
+package com.example.orderservice.service;
+
+import com.example.orderservice.client.ProductClient;
+import com.example.orderservice.dto.OrderEvent;
+import com.example.orderservice.dto.StockReservationRequest;
+import com.example.orderservice.entity.OrderEntity;
+import com.example.orderservice.entity.OrderEntity.OrderStatus;
+import com.example.orderservice.entity.OrderItemEntity;
+import com.example.orderservice.entity.OrderSagaEntity;
+import com.example.orderservice.entity.OrderSagaEntity.SagaStatus;
+import com.example.orderservice.repository.OrderRepository;
+import com.example.orderservice.repository.OrderSagaRepository;
+import feign.FeignException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 주문 생성 사가 오케스트레이터
+ *
+ * 주문이 CREATED 상태로 저장된 뒤 별도 스레드 풀에서 다음 단계를 진행합니다.
+ * <ol>
+ * <li>reserve: 상품 서비스에 주문 상품 전체의 재고를 한 번에 예약</li>
+ * <li>confirm: 예약 성공 시 주문을 PROCESSING 으로 확정, 실패 시 주문을 CANCELLED 로 변경</li>
+ * <li>compensate: 예약 이후 주문이 취소되면 예약한 재고를 복원</li>
+ * </ol>
+ * 각 단계의 상태는 order_sagas 테이블에 기록되며, 실행 큐가 가득 찼거나 인스턴스가 중단되어
+ * 멈춘 STARTED/RESERVING/COMPENSATING 사가는 복구 스케줄러가 다시 실행합니다.
+ * 같은 사가를 여러 실행자가 동시에 잡으면 @Version 충돌로 하나만 진행됩니다.
+ *
+ * 재고 예약/복원 요청에는 주문 ID 를 함께 보내며 상품 서비스가 이를 기준으로 중복을 걸러내므로,
+ * 타임아웃처럼 예약 적용 여부를 알 수 없는 실패는 같은 예약을 다시 보내 결과를 확정합니다.
+ * 재고 부족처럼 상품 서비스가 거절한 경우(4xx)에만 주문을 취소하며, max-reserve-attempts 번 시도해도
+ * 결과를 알 수 없으면 주문을 취소하고 예약을 복원합니다 (예약되지 않았다면 복원 요청은 재고를 바꾸지 않음).
+ * 사가 도입 이전 주문은 상품 서비스에 예약 기록이 없으므로, 복원 요청에 reservedBeforeTracking 을 표시해 한 번 복원합니다.
+ */
+@Slf4j
+@Service
+public class OrderSagaOrchestrator {
+
+    private static final int MAX_CONFIRM_ATTEMPTS = 3;
+
+    private final OrderSagaRepository orderSagaRepository;
+    private final OrderRepository orderRepository;
+    private final ProductClient productClient;
+    private final OrderOutboxService orderOutboxService;
+    private final CustomerOrderSummaryService customerOrderSummaryService;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor executor;
+    private final long staleAfterSeconds;
+    private final int recoveryBatchSize;
+    private final int maxReserveAttempts;
+
+    public OrderSagaOrchestrator(OrderSagaRepository orderSagaRepository,
+            OrderRepository orderRepository,
+            ProductClient productClient,
+            OrderOutboxService orderOutboxService,
+            CustomerOrderSummaryService customerOrderSummaryService,
+            TransactionTemplate transactionTemplate,
+            @Qualifier("orderSagaExecutor") Executor executor,
+            @Value("${order.saga.stale-after-seconds:60}") long staleAfterSeconds,
+            @Value("${order.saga.recovery-batch-size:100}") int recoveryBatchSize,
+            @Value("${order.saga.max-reserve-attempts:5}") int maxReserveAttempts) {
+        this.orderSagaRepository = orderSagaRepository;
+        this.orderRepository = orderRepository;
+        this.productClient = productClient;
+        this.orderOutboxService = orderOutboxService;
+        this.customerOrderSummaryService = customerOrderSummaryService;
+        this.transactionTemplate = transactionTemplate;
+        this.executor = executor;
+        this.staleAfterSeconds = staleAfterSeconds;
+        this.recoveryBatchSize = recoveryBatchSize;
+        this.maxReserveAttempts = maxReserveAttempts;
+    }
+
+    /**
+     * 주문을 저장하는 트랜잭션 안에서 사가를 기록합니다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void begin(Long orderId) {
+        orderSagaRepository.save(OrderSagaEntity.builder()
+                .orderId(orderId)
+                .build());
+    }
+
+    /**
+     * 주문을 취소하는 트랜잭션 안에서 취소 요청을 기록합니다.
+     * 재고가 이미 예약되어 있으면 사가는 COMPENSATING 으로 바뀌며, 커밋 후 compensateAsync 로 복원합니다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void requestCancel(Long orderId) {
+        OrderSagaEntity saga = orderSagaRepository.findByOrderId(orderId)
+                .orElseGet(() -> {
+                    // 사가 도입 이전 주문은 재고가 이미 예약된 것으로 간주 (상품 서비스에는 예약 기록이 없음)
+                    OrderSagaEntity legacy = OrderSagaEntity.builder().orderId(orderId).build();
+                    legacy.confirmReservedBeforeTracking();
+                    return orderSagaRepository.save(legacy);
+                });
+        saga.requestCancel();
+    }
+
+    /**
+     * 커밋된 주문의 사가를 비동기로 실행합니다.
+     */
+    public void start(Long orderId) {
+        submit(() -> execute(orderId));
+    }
+
+    /**
+     * 재고 복원이 필요한 사가를 비동기로 실행합니다. COMPENSATING 상태가 아니면 아무것도 하지 않습니다.
+     */
+    public void compensateAsync(Long orderId) {
+        submit(() -> compensate(orderId));
+    }
+
+    /**
+     * 실행 큐 유실이나 인스턴스 중단으로 멈춘 사가를 다시 실행합니다.
+     */
+    @Scheduled(fixedDelayString = "${order.saga.recovery-interval-ms:30000}")
+    public void recoverStaleSagas() {
+        LocalDateTime before = LocalDateTime.now().minusSeconds(staleAfterSeconds);
+        PageRequest batch = PageRequest.of(0, recoveryBatchSize);
+
+        orderSagaRepository.findStaleOrderIds(SagaStatus.STARTED, before, batch)
+                .forEach(this::start);
+        // 예약 응답을 받기 전에 중단되었거나 결과를 알 수 없는 실패로 남은 사가는 같은 예약을 다시 보냄
+        orderSagaRepository.findStaleOrderIds(SagaStatus.RESERVING, before, batch)
+                .forEach(this::start);
+        orderSagaRepository.findStaleOrderIds(SagaStatus.COMPENSATING, before, batch)
+                .forEach(this::compensateAsync);
+    }
+
+    void execute(Long orderId) {
+        // 1. 예약 시작 기록 (다른 실행자와 경합하면 버전 충돌로 한쪽만 진행)
+        StockReservationRequest reservation;
+        try {
+            reservation = transactionTemplate.execute(status -> {
+                OrderSagaEntity saga = orderSagaRepository.findByOrderId(orderId).orElse(null);
+                if (saga == null
+                        || (saga.getStatus() != SagaStatus.STARTED && saga.getStatus() != SagaStatus.RESERVING)) {
+                    return null;
+                }
+                saga.startReserving();
+                return toStockRequest(findOrder(orderId));
+            });
+        } catch (ObjectOptimisticLockingFailureException e) {
+            return;
+        }
+        if (reservation == null) {
+            return;
+        }
+
+        // 2. 재고 예약 (주문 ID 로 중복이 걸러지므로 재시도해도 한 번만 차감)
+        try {
+            productClient.reserveStock(reservation);
+        } catch (FeignException e) {
+            if (isRejected(e)) {
+                log.warn("재고 예약이 거절되어 주문을 취소합니다: orderId={}", orderId, e);
+                transactionTemplate.executeWithoutResult(status -> {
+                    findSaga(orderId).fail(e.getMessage());
+                    cancelOrder(orderId);
+                });
+            } else {
+                retryReservationLater(orderId, e);
+            }
+            return;
+        } catch (Exception e) {
+            retryReservationLater(orderId, e);
+            return;
+        }
+
+        // 3. 주문 확정, 예약 도중 취소되었다면 재고 복원
+        if (confirm(orderId)) {
+            compensate(orderId);
+        }
+    }
+
+    /**
+     * 예약 결과를 알 수 없는 실패를 기록합니다.
+     * 사가는 RESERVING 으로 남아 복구 스케줄러가 같은 예약을 다시 보내고,
+     * 시도 횟수를 모두 쓰면 주문을 취소하고 적용되었을 수 있는 예약을 복원합니다.
+     */
+    private void retryReservationLater(Long orderId, Exception e) {
+        boolean abandoned = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            OrderSagaEntity saga = findSaga(orderId);
+            if (saga.getAttempts() < maxReserveAttempts) {
+                saga.reserveFailed(e.getMessage());
+                return false;
+            }
+            saga.abandonReservation(e.getMessage());
+            cancelOrder(orderId);
+            return true;
+        }));
+
+        if (abandoned) {
+            log.error("재고 예약 결과를 확인하지 못해 주문을 취소하고 예약을 복원합니다: orderId={}", orderId, e);
+            compensate(orderId);
+        } else {
+            log.warn("재고 예약 결과를 알 수 없어 복구 스케줄러에서 다시 예약합니다: orderId={}", orderId, e);
+        }
+    }
+
+    /**
+     * 상품 서비스가 요청을 처리하고 거절했는지 (재고 부족, 상품 없음 등) 판단합니다.
+     * 타임아웃, 연결 실패, 5xx 는 예약 적용 여부를 알 수 없으므로 거절로 보지 않습니다.
+     */
+    private boolean isRejected(FeignException e) {
+        return e.status() >= 400 && e.status() < 500;
+    }
+
+    private void cancelOrder(Long orderId) {
+        OrderEntity order = lockOrder(orderId);
+        // 예약 도중 사용자가 이미 취소했다면 주문 상태는 그대로 둠
+        if (order.getStatus().canTransitionTo(OrderStatus.CANCELLED)) {
+            OrderStatus previousStatus = order.getStatus();
+            order.updateStatus(OrderStatus.CANCELLED);
+            orderOutboxService.record(order, OrderEvent.Type.ORDER_CANCELLED);
+            customerOrderSummaryService.recordStatusChange(order, previousStatus);
+        }
+    }
+
+    /**
+     * 버전 충돌이 계속되면 RESERVING 으로 남겨 두고, 복구 스케줄러가 같은 예약을 다시 보낸 뒤 확정합니다.
+     *
+     * @return 예약 도중 취소 요청이 있어 재고 복원이 필요하면 true
+     */
+    private boolean confirm(Long orderId) {
+        for (int attempt = 1;; attempt++) {
+            try {
+                return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                    // 주문을 먼저 잠가 사용자 취소나 일괄 상태 변경이 끝난 뒤의 사가와 주문 상태를 봄
+                    OrderEntity order = lockOrder(orderId);
+                    OrderSagaEntity saga = findSaga(orderId);
+                    if (saga.getStatus() != SagaStatus.RESERVING) {
+                        // 복구 스케줄러와 동시에 실행되어 다른 실행자가 이미 확정한 경우
+                        return false;
+                    }
+                    if (saga.isCancelRequested()) {
+                        saga.startCompensating();
+                        return true;
+                    }
+                    saga.confirm();
+                    OrderStatus previousStatus = order.getStatus();
+                    order.updateStatus(OrderStatus.PROCESSING);
+                    orderOutboxService.record(order, OrderEvent.Type.ORDER_CONFIRMED);
+                    customerOrderSummaryService.recordStatusChange(order, previousStatus);
+                    return false;
+                }));
+            } catch (ObjectOptimisticLockingFailureException e) {
+                // 동시에 취소 요청이 기록된 경우 다시 읽어서 판단
+                if (attempt >= MAX_CONFIRM_ATTEMPTS) {
+                    log.warn("주문 확정 중 버전 충돌이 반복되어 복구 스케줄러에서 다시 확정합니다: orderId={}", orderId);
+                    return false;
+                }
+            }
+        }
+    }
+
+    void compensate(Long orderId) {
+        StockReservationRequest release;
+        try {
+            release = transactionTemplate.execute(status -> {
+                OrderSagaEntity saga = orderSagaRepository.findByOrderId(orderId).orElse(null);
+                if (saga == null || saga.getStatus() != SagaStatus.COMPENSATING) {
+                    return null;
+                }
+                // 버전을 올려 다른 실행자가 같은 복원을 동시에 수행하지 않도록 선점
+                saga.claimCompensation();
+                StockReservationRequest request = toStockRequest(findOrder(orderId));
+                request.setReservedBeforeTracking(saga.isReservedBeforeTracking());
+                return request;
+            });
+        } catch (ObjectOptimisticLockingFailureException e) {
+            return;
+        }
+        if (release == null) {
+            return;
+        }
+
+        try {
+            productClient.releaseStock(release);
+        } catch (Exception e) {
+            log.error("재고 복원 실패, 복구 스케줄러에서 재시도합니다: orderId={}", orderId, e);
+            transactionTemplate.executeWithoutResult(status -> findSaga(orderId).compensationFailed(e.getMessage()));
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> findSaga(orderId).compensated());
+    }
+
+    private void submit(Runnable step) {
+        try {
+            executor.execute(() -> {
+                try {
+                    step.run();
+                } catch (Exception e) {
+                    log.error("사가 단계 실행 실패", e);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            log.warn("사가 실행 큐가 가득 차 복구 스케줄러에서 이어서 처리합니다");
+        }
+    }
+
+    private OrderSagaEntity findSaga(Long orderId) {
+        return orderSagaRepository.findByOrderId(orderId)
+                .orElseThrow(() -> new RuntimeException("Saga not found for order: " + orderId));
+    }
+
+    private OrderEntity findOrder(Long orderId) {
+        return orderRepository.findById(orderId)
+                .orElseThrow(() -> new RuntimeException("Order not found with id: " + orderId));
+    }
+
+    // 상태를 바꾸는 단계는 OrderService 의 취소/상태 변경, 일괄 상태 변경과 같은 행 잠금을 잡음
+    private OrderEntity lockOrder(Long orderId) {
+        return orderRepository.findByIdForUpdate(orderId)
+                .orElseThrow(() -> new RuntimeException("Order not found with id: " + orderId));
+    }
+
+    private StockReservationRequest toStockRequest(OrderEntity order) {
+        Map<Long, Integer> quantities = order.getOrderItems().stream()
+                .collect(Collectors.toMap(
+                        OrderItemEntity::getProductId,
+                        OrderItemEntity::getQuantity,
+                        Integer::sum));
+
+        List<StockReservationRequest.ReservationItem> items = quantities.entrySet().stream()
+                .map(entry -> StockReservationRequest.ReservationItem.builder()
+                        .productId(entry.getKey())
+                        .quantity(entry.getValue())
+                        .build())
+                .collect(Collectors.toList());
+        return StockReservationRequest.builder()
+                .orderId(order.getId())
+                .items(items)
+                .build();
+    }
+}
\ No newline at end of file
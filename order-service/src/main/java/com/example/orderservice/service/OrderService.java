@@ -1,137 +1,256 @@
 package com.example.orderservice.service;
 
-import com.example.orderservice.client.CustomerClient;
-import com.example.orderservice.client.ProductClient;
+import com.example.orderservice.dto.BulkStatusUpdateRequest;
+import com.example.orderservice.dto.BulkStatusUpdateResponse;
 import com.example.orderservice.dto.CreateOrderRequest;
 import com.example.orderservice.dto.CustomerDto;
+import com.example.orderservice.dto.CustomerOrderSummaryDto;
 import com.example.orderservice.dto.OrderDto;
+import com.example.orderservice.dto.OrderEvent;
 import com.example.orderservice.dto.OrderItemDto;
+import com.example.orderservice.dto.OrderPageDto;
+import com.example.orderservice.dto.OrderStatsDto;
 import com.example.orderservice.dto.ProductDto;
 import com.example.orderservice.entity.OrderEntity;
 import com.example.orderservice.entity.OrderEntity.OrderStatus;
 import com.example.orderservice.entity.OrderItemEntity;
+import com.example.orderservice.repository.OrderCursor;
 import com.example.orderservice.repository.OrderRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
+import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ResponseStatusException;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class OrderService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int EXPORT_CHUNK_SIZE = 500;
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 100;
+    private static final int DEFAULT_STATS_DAYS = 30;
+    private static final int MAX_BULK_SIZE = 10000;
+    private static final int BULK_CHUNK_SIZE = 1000;
+
+    // 관리자가 상태 변경 API 로 지정할 수 있는 목표 상태
+    // PROCESSING(재고 예약 확정)과 CANCELLED(재고 복원)는 사가와 주문 취소를 거쳐야 하므로 제외
+    private static final Set<OrderStatus> MANUAL_TARGETS = EnumSet.of(OrderStatus.DELIVERED, OrderStatus.COMPLETED);
+
     private final OrderRepository orderRepository;
-    private final ProductClient productClient;
-    private final CustomerClient customerClient;
-
-    @Transactional
-    public OrderDto createOrder(CreateOrderRequest request) {
-        CustomerDto customer = customerClient.getCustomer(request.getCustomerId());
-
-        // 주문 생성
-        OrderEntity order = OrderEntity.builder()
-                .customerId(customer.getId())
-                .orderNumber(generateOrderNumber())
-                .status(OrderStatus.CREATED)
-                .orderDate(LocalDateTime.now())
-                .totalAmount(0.0)
-                .build();
+    private final CustomerCacheService customerCacheService;
+    private final IdempotencyService idempotencyService;
+    private final OrderNumberGenerator orderNumberGenerator;
+    private final ObjectMapper objectMapper;
+    private final OrderLookupService orderLookupService;
+    private final TransactionTemplate transactionTemplate;
+    private final OrderSagaOrchestrator orderSagaOrchestrator;
+    private final OrderOutboxService orderOutboxService;
+    private final CustomerOrderSummaryService customerOrderSummaryService;
 
-        // 주문 상품 추가
-        double totalAmount = 0.0;
-        for (CreateOrderRequest.OrderItemRequest itemRequest : request.getItems()) {
-            ProductDto product = productClient.getProduct(itemRequest.getProductId());
+    /**
+     * 주문을 생성합니다.
+     * Idempotency-Key 가 주어지면 같은 키로 이미 생성된 주문을 상품 서비스 호출 없이 그대로 반환합니다.
+     *
+     * 원격 조회는 트랜잭션 밖에서 수행하고, 주문은 CREATED 상태로 사가 기록과 함께 저장합니다.
+     * Idempotency-Key 선점과 주문 저장은 각각 짧은 트랜잭션이므로 그 사이의 원격 조회 동안에는 DB 커넥션을 점유하지 않습니다.
+     * 재고 예약과 주문 확정은 커밋 이후 OrderSagaOrchestrator 가 비동기로 진행하므로
+     * 응답의 주문 상태는 CREATED 이며, 예약 결과에 따라 PROCESSING 또는 CANCELLED 로 바뀝니다.
+     *
+     * @param request        주문 생성 요청
+     * @param idempotencyKey 재시도 중복 제거 키 (선택)
+     * @return 생성된 주문 정보
+     */
+    public OrderDto createOrder(CreateOrderRequest request, String idempotencyKey) {
+        IdempotencyService.Claim claim = null;
+        if (StringUtils.hasText(idempotencyKey)) {
+            if (idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Idempotency-Key is too long");
+            }
+            claim = idempotencyService.claim(idempotencyKey, request);
+            if (claim.isCompleted()) {
+                return findOrderDto(claim.getOrderId());
+            }
+        }
 
-            // 재고 업데이트
-            productClient.updateStock(product.getId(), itemRequest.getQuantity());
+        try {
+            return placeOrder(request, claim);
+        } catch (RuntimeException e) {
+            if (claim != null) {
+                idempotencyService.release(claim);
+            }
+            throw e;
+        }
+    }
 
-            OrderItemEntity orderItem = OrderItemEntity.builder()
-                    .productId(product.getId())
-                    .productName(product.getName())
-                    .quantity(itemRequest.getQuantity())
-                    .unitPrice(product.getPrice())
-                    .build();
+    private OrderDto placeOrder(CreateOrderRequest request, IdempotencyService.Claim claim) {
+        List<Long> productIds = request.getItems().stream()
+                .map(CreateOrderRequest.OrderItemRequest::getProductId)
+                .distinct()
+                .collect(Collectors.toList());
+
+        // 1단계: 고객과 상품 정보를 병렬로 조회
+        OrderLookupService.OrderLookup lookup = orderLookupService.lookup(request.getCustomerId(), productIds);
+        CustomerDto customer = lookup.getCustomer();
+        Map<Long, ProductDto> products = lookup.getProducts();
 
-            order.addOrderItem(orderItem);
-            totalAmount += orderItem.getUnitPrice() * orderItem.getQuantity();
+        for (Long productId : productIds) {
+            if (!products.containsKey(productId)) {
+                throw new RuntimeException("Product not found with id: " + productId);
+            }
         }
 
-        // totalAmount는 addOrderItem 메서드에서 자동 계산됨
-        OrderEntity savedOrder = orderRepository.save(order);
+        // 2단계: 짧은 로컬 트랜잭션에서 주문과 사가 기록을 저장
+        OrderEntity savedOrder = inTransaction(() -> {
+            OrderEntity order = OrderEntity.builder()
+                    .customerId(customer.getId())
+                    .orderNumber(orderNumberGenerator.nextOrderNumber())
+                    .status(OrderStatus.CREATED)
+                    .orderDate(LocalDateTime.now())
+                    .totalAmount(BigDecimal.ZERO)
+                    .build();
+
+            for (CreateOrderRequest.OrderItemRequest itemRequest : request.getItems()) {
+                ProductDto product = products.get(itemRequest.getProductId());
+
+                OrderItemEntity orderItem = OrderItemEntity.builder()
+                        .productId(product.getId())
+                        .productName(product.getName())
+                        .quantity(itemRequest.getQuantity())
+                        .unitPrice(product.getPrice())
+                        .build();
+
+                order.addOrderItem(orderItem);
+            }
+
+            // totalAmount는 addOrderItem 메서드에서 자동 계산됨
+            OrderEntity saved = orderRepository.save(order);
+            orderSagaOrchestrator.begin(saved.getId());
+            orderOutboxService.record(saved, OrderEvent.Type.ORDER_CREATED);
+            customerOrderSummaryService.recordCreated(saved);
+            if (claim != null) {
+                idempotencyService.complete(claim, saved.getId());
+            }
+            return saved;
+        });
+
+        // 3단계: 커밋 후 재고 예약 사가 시작
+        orderSagaOrchestrator.start(savedOrder.getId());
 
         return mapToOrderDto(savedOrder, customer.getName());
     }
 
-    @Transactional(readOnly = true)
     public OrderDto getOrderById(Long id) {
-        OrderEntity order = orderRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Order not found with id: " + id));
-
-        CustomerDto customer = customerClient.getCustomer(order.getCustomerId());
-        return mapToOrderDto(order, customer.getName());
+        return findOrderDto(id);
     }
 
-    @Transactional(readOnly = true)
     public OrderDto getOrderByOrderNumber(String orderNumber) {
-        List<OrderEntity> orders = orderRepository.findByOrderNumber(orderNumber);
-        if (orders == null || orders.isEmpty()) {
-            throw new RuntimeException("Order not found with orderNumber: " + orderNumber);
-        }
+        OrderDto order = inTransaction(() -> orderRepository.findOrderDtoByOrderNumber(orderNumber)
+                .orElseThrow(() -> new RuntimeException("Order not found with orderNumber: " + orderNumber)));
 
-        OrderEntity order = orders.get(0);
-        CustomerDto customer = customerClient.getCustomer(order.getCustomerId());
-        return mapToOrderDto(order, customer.getName());
+        CustomerDto customer = customerCacheService.getCustomer(order.getCustomerId());
+        order.setCustomerName(customer.getName());
+        return order;
     }
 
-    @Transactional(readOnly = true)
     public List<OrderDto> getOrdersByCustomerId(Long customerId) {
-        CustomerDto customer = customerClient.getCustomer(customerId);
-        List<OrderEntity> orders = orderRepository.findByCustomerId(customerId);
-        return orders.stream()
-                .map(order -> mapToOrderDto(order, customer.getName()))
-                .collect(Collectors.toList());
+        List<OrderDto> orders = inTransaction(() -> orderRepository.findOrderDtosByCustomerId(customerId));
+
+        CustomerDto customer = customerCacheService.getCustomer(customerId);
+        orders.forEach(order -> order.setCustomerName(customer.getName()));
+        return orders;
     }
 
-    @Transactional(readOnly = true)
-    public List<OrderDto> getOrdersByStatus(OrderStatus status) {
-        List<OrderEntity> orders = orderRepository.findAll()
-                .stream()
-                .filter(order -> order.getStatus() == status)
-                .collect(Collectors.toList());
+    /**
+     * 고객별 주문 요약을 조회합니다. 주문 목록을 읽지 않고 요약 행 하나만 조회합니다.
+     */
+    public CustomerOrderSummaryDto getCustomerOrderSummary(Long customerId) {
+        return customerOrderSummaryService.getSummary(customerId);
+    }
 
-        Map<Long, String> customerNames = orders.stream()
-                .map(OrderEntity::getCustomerId)
-                .distinct()
-                .collect(Collectors.toMap(
-                        (Long id) -> id,
-                        (Long id) -> {
-                            try {
-                                return customerClient.getCustomer(id).getName();
-                            } catch (Exception e) {
-                                return "Unknown Customer";
-                            }
-                        }));
-
-        return orders.stream()
-                .map(order -> mapToOrderDto(order, customerNames.get(order.getCustomerId())))
-                .collect(Collectors.toList());
+    /**
+     * 상태별 주문을 최신순으로 커서 기반 페이지 조회합니다.
+     *
+     * @param status 주문 상태
+     * @param after  이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param limit  페이지 크기 (최대 MAX_PAGE_SIZE)
+     * @return 주문 페이지
+     */
+    public OrderPageDto getOrdersByStatus(OrderStatus status, String after, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        OrderCursor cursor = OrderCursor.decode(after);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<OrderDto> orders = inTransaction(() -> orderRepository.findOrderDtosByStatus(status, cursor,
+                pageSize + 1));
+        String nextCursor = null;
+        if (orders.size() > pageSize) {
+            orders = orders.subList(0, pageSize);
+            OrderDto last = orders.get(pageSize - 1);
+            nextCursor = new OrderCursor(last.getOrderDate(), last.getId()).encode();
+        }
+
+        fillCustomerNames(orders);
+
+        return OrderPageDto.builder()
+                .items(orders)
+                .nextCursor(nextCursor)
+                .build();
     }
 
-    @Transactional(readOnly = true)
     public List<OrderDto> getOrdersByStatusAndDateRange(OrderStatus status, LocalDateTime startDate,
             LocalDateTime endDate) {
-        List<OrderEntity> orders = orderRepository.findOrdersByStatusAndDateRange(status, startDate, endDate);
+        List<OrderDto> orders = inTransaction(() -> orderRepository.findOrderDtosByStatusAndDateRange(status,
+                startDate, endDate));
+        fillCustomerNames(orders);
+        return orders;
+    }
 
-        return orders.stream()
-                .map(order -> {
-                    CustomerDto customer = customerClient.getCustomer(order.getCustomerId());
-                    return mapToOrderDto(order, customer.getName());
-                })
-                .collect(Collectors.toList());
+    /**
+     * 주문 통계를 상태별, 기간 구간별, 상품별로 DB 에서 집계합니다.
+     * 기간을 지정하지 않으면 최근 DEFAULT_STATS_DAYS 일을 집계합니다.
+     *
+     * @param from   집계 시작 시각 (포함)
+     * @param to     집계 종료 시각 (미포함)
+     * @param bucket 기간 구간 단위 (일/시간)
+     * @return 주문 통계
+     */
+    @Transactional(readOnly = true)
+    public OrderStatsDto getOrderStats(LocalDateTime from, LocalDateTime to, OrderStatsDto.Bucket bucket) {
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from != null ? from : end.minusDays(DEFAULT_STATS_DAYS);
+        if (!start.isBefore(end)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "from must be before to");
+        }
+
+        return OrderStatsDto.builder()
+                .from(start)
+                .to(end)
+                .bucket(bucket)
+                .byStatus(orderRepository.aggregateByStatus(start, end))
+                .byPeriod(orderRepository.aggregateByPeriod(start, end, bucket))
+                .byProduct(orderRepository.aggregateByProduct(start, end))
+                .build();
     }
 
     /**
@@ -140,67 +259,251 @@ public class OrderService {
      * 
      * @return 모든 주문 목록
      */
-    @Transactional(readOnly = true)
     public List<OrderDto> getAllOrders() {
-        List<OrderEntity> orders = orderRepository.findAll();
+        List<OrderDto> orders = inTransaction(orderRepository::findAllOrderDtos);
+        fillCustomerNames(orders);
+        return orders;
+    }
 
-        return orders.stream()
-                .map(order -> {
-                    CustomerDto customer = customerClient.getCustomer(order.getCustomerId());
-                    return mapToOrderDto(order, customer.getName());
-                })
-                .collect(Collectors.toList());
+    /**
+     * 모든 주문을 NDJSON(한 줄에 하나의 JSON) 형식으로 출력 스트림에 기록합니다.
+     * EXPORT_CHUNK_SIZE 건씩 DTO 로 읽어 바로 기록하므로 전체 목록을 메모리에 올리지 않습니다.
+     * 다운로드 속도는 클라이언트 네트워크에 좌우되므로 전체를 하나의 트랜잭션으로 묶지 않고,
+     * 묶음마다 키셋 조회를 따로 실행하여 고객 조회와 스트림 기록 중에는 DB 커넥션을 점유하지 않습니다.
+     *
+     * @param outputStream 응답 출력 스트림
+     */
+    public void exportOrders(OutputStream outputStream) {
+        orderRepository.forEachOrderDtoChunk(EXPORT_CHUNK_SIZE, orders -> {
+            fillCustomerNames(orders);
+            try {
+                for (OrderDto order : orders) {
+                    outputStream.write(objectMapper.writeValueAsBytes(order));
+                    outputStream.write('\n');
+                }
+                outputStream.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write order export", e);
+            }
+        });
     }
 
     /**
      * 주문을 취소합니다.
      * 관리자 또는 주문 작성 권한이 있는 사용자만 주문을 취소할 수 있습니다.
+     * 주문 행을 잠근 뒤 상태 변경과 사가 취소 기록만 로컬 트랜잭션에서 처리하고, 이미 예약된 재고가 있으면
+     * 커밋 이후 사가의 보상 단계에서 복원합니다.
      *
      * @param id 취소할 주문 ID
      * @return 취소된 주문 정보
      */
-    @Transactional
     public OrderDto cancelOrder(Long id) {
-        OrderEntity order = orderRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Order not found with id: " + id));
+        OrderEntity cancelledOrder;
+        try {
+            cancelledOrder = inTransaction(() -> {
+                // 일괄 상태 변경이나 사가와 동시에 바꾸지 않도록 잠근 뒤 현재 상태를 검사
+                OrderEntity order = orderRepository.findByIdForUpdate(id)
+                        .orElseThrow(() -> new RuntimeException("Order not found with id: " + id));
+
+                // 이미 취소되었거나 배송된 주문은 취소 불가능
+                if (!order.getStatus().canTransitionTo(OrderStatus.CANCELLED)) {
+                    throw new ResponseStatusException(HttpStatus.CONFLICT,
+                            "Cannot cancel order in status " + order.getStatus() + ": " + id);
+                }
+
+                // 주문 상태를 취소로 변경
+                OrderStatus previousStatus = order.getStatus();
+                order.updateStatus(OrderStatus.CANCELLED);
+                orderSagaOrchestrator.requestCancel(id);
+                orderOutboxService.record(order, OrderEvent.Type.ORDER_CANCELLED);
+                customerOrderSummaryService.recordStatusChange(order, previousStatus);
+                // 응답 DTO 변환은 트랜잭션 밖에서 하므로 지연 로딩 컬렉션을 미리 초기화
+                Hibernate.initialize(order.getOrderItems());
+                return order;
+            });
+        } catch (ObjectOptimisticLockingFailureException e) {
+            // 사가가 같은 순간 재고 예약 단계로 넘어간 경우
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Order is being processed, please retry");
+        }
+
+        // 재고 복원
+        orderSagaOrchestrator.compensateAsync(id);
+
+        CustomerDto customer = customerCacheService.getCustomer(cancelledOrder.getCustomerId());
+        return mapToOrderDto(cancelledOrder, customer.getName());
+    }
 
-        // 이미 취소된 주문인지 확인
-        if (order.getStatus() == OrderStatus.CANCELLED) {
-            throw new RuntimeException("Order is already cancelled: " + id);
+    public OrderDto updateOrderStatus(Long id, OrderStatus status) {
+        checkManualTarget(status);
+
+        OrderEntity updatedOrder = inTransaction(() -> {
+            OrderEntity order = orderRepository.findByIdForUpdate(id)
+                    .orElseThrow(() -> new RuntimeException("Order not found with id: " + id));
+
+            if (!order.getStatus().canTransitionTo(status)) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT,
+                        "Cannot change order status from " + order.getStatus() + " to " + status + ": " + id);
+            }
+
+            OrderStatus previousStatus = order.getStatus();
+            order.updateStatus(status);
+            orderOutboxService.record(order, OrderEvent.Type.ORDER_STATUS_CHANGED);
+            customerOrderSummaryService.recordStatusChange(order, previousStatus);
+            // 응답 DTO 변환은 트랜잭션 밖에서 하므로 지연 로딩 컬렉션을 미리 초기화
+            Hibernate.initialize(order.getOrderItems());
+            return order;
+        });
+
+        CustomerDto customer = customerCacheService.getCustomer(updatedOrder.getCustomerId());
+        return mapToOrderDto(updatedOrder, customer.getName());
+    }
+
+    /**
+     * 여러 주문의 상태를 한 번에 변경합니다.
+     * 대상 주문 헤더를 잠금 조회한 뒤 허용된 전이만 UPDATE 로 일괄 반영하며,
+     * 고객 정보 조회 없이 처리 건수와 실패 목록만 반환합니다.
+     *
+     * @param request 대상 주문(ID 목록 또는 현재 상태 기준 조건)과 목표 상태
+     * @return 일괄 변경 결과
+     */
+    public BulkStatusUpdateResponse updateOrderStatuses(BulkStatusUpdateRequest request) {
+        OrderStatus targetStatus = request.getTargetStatus();
+        checkManualTarget(targetStatus);
+        Set<OrderStatus> allowedSources = OrderStatus.sourcesOf(targetStatus);
+
+        boolean byIds = request.getOrderIds() != null && !request.getOrderIds().isEmpty();
+        if (byIds == (request.getCurrentStatus() != null)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Either orderIds or currentStatus must be given");
+        }
+        if (!byIds && !request.getCurrentStatus().canTransitionTo(targetStatus)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Cannot change status from " + request.getCurrentStatus() + " to " + targetStatus);
         }
 
-        // 배송 완료된 주문은 취소 불가능
-        if (order.getStatus() == OrderStatus.DELIVERED) {
-            throw new RuntimeException("Cannot cancel delivered order: " + id);
+        List<Long> orderIds = byIds ? new ArrayList<>(new LinkedHashSet<>(request.getOrderIds())) : List.of();
+        if (orderIds.size() > MAX_BULK_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "At most " + MAX_BULK_SIZE + " orders can be updated at once");
         }
 
-        // 주문 상태를 취소로 변경
-        order.updateStatus(OrderStatus.CANCELLED);
-        OrderEntity updatedOrder = orderRepository.save(order);
+        return inTransaction(() -> {
+            List<OrderDto> orders = new ArrayList<>();
+            if (byIds) {
+                for (int from = 0; from < orderIds.size(); from += BULK_CHUNK_SIZE) {
+                    orders.addAll(orderRepository.findOrderHeadersForUpdate(
+                            orderIds.subList(from, Math.min(from + BULK_CHUNK_SIZE, orderIds.size()))));
+                }
+            } else {
+                orders = orderRepository.findOrderHeadersForUpdate(request.getCurrentStatus(),
+                        request.getCustomerId(), request.getStartDate(), request.getEndDate(), MAX_BULK_SIZE + 1);
+                if (orders.size() > MAX_BULK_SIZE) {
+                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                            "More than " + MAX_BULK_SIZE + " orders match the filter");
+                }
+            }
+
+            List<BulkStatusUpdateResponse.Failure> failures = new ArrayList<>();
+            Set<Long> foundIds = orders.stream()
+                    .map(OrderDto::getId)
+                    .collect(Collectors.toSet());
+            for (Long orderId : orderIds) {
+                if (!foundIds.contains(orderId)) {
+                    failures.add(BulkStatusUpdateResponse.Failure.builder()
+                            .orderId(orderId)
+                            .reason(BulkStatusUpdateResponse.Reason.NOT_FOUND)
+                            .build());
+                }
+            }
+
+            List<OrderDto> updatable = new ArrayList<>();
+            for (OrderDto order : orders) {
+                if (order.getStatus().canTransitionTo(targetStatus)) {
+                    updatable.add(order);
+                } else {
+                    failures.add(BulkStatusUpdateResponse.Failure.builder()
+                            .orderId(order.getId())
+                            .currentStatus(order.getStatus())
+                            .reason(BulkStatusUpdateResponse.Reason.INVALID_TRANSITION)
+                            .build());
+                }
+            }
+
+            long updated = 0;
+            for (int from = 0; from < updatable.size(); from += BULK_CHUNK_SIZE) {
+                List<Long> chunk = updatable.subList(from, Math.min(from + BULK_CHUNK_SIZE, updatable.size()))
+                        .stream()
+                        .map(OrderDto::getId)
+                        .collect(Collectors.toList());
+                updated += orderRepository.updateStatus(chunk, allowedSources, targetStatus);
+            }
+
+            customerOrderSummaryService.recordStatusChanges(updatable, targetStatus);
+            for (OrderDto order : updatable) {
+                order.setStatus(targetStatus);
+                orderOutboxService.record(order, OrderEvent.Type.ORDER_STATUS_CHANGED);
+            }
+
+            return BulkStatusUpdateResponse.builder()
+                    .targetStatus(targetStatus)
+                    .matched(orders.size())
+                    .updated(updated)
+                    .failures(failures)
+                    .build();
+        });
+    }
 
-        // 재고 복원 로직 (옵션)
-        for (OrderItemEntity item : order.getOrderItems()) {
-            productClient.updateStock(item.getProductId(), -item.getQuantity()); // 음수로 전달하여 재고 증가
+    private void checkManualTarget(OrderStatus status) {
+        if (status == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Target status is required");
+        }
+        if (!MANUAL_TARGETS.contains(status)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Status " + status + " cannot be set directly");
         }
-
-        CustomerDto customer = customerClient.getCustomer(updatedOrder.getCustomerId());
-        return mapToOrderDto(updatedOrder, customer.getName());
     }
 
-    @Transactional
-    public OrderDto updateOrderStatus(Long id, OrderStatus status) {
-        OrderEntity order = orderRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Order not found with id: " + id));
+    /**
+     * 로컬 트랜잭션에서 작업을 실행합니다.
+     * open-in-view 를 끄고 고객/상품 서비스 호출은 이 밖에서 하므로 DB 커넥션은 이 작업 동안만 점유합니다.
+     * 실제 점유 시간은 커넥션 풀 메트릭 hikaricp.connections.usage 로 확인할 수 있습니다.
+     */
+    private <T> T inTransaction(Supplier<T> work) {
+        return transactionTemplate.execute(status -> work.get());
+    }
 
-        order.updateStatus(status);
-        OrderEntity updatedOrder = orderRepository.save(order);
+    /**
+     * 주문과 주문 상품을 DTO 로 조회한 뒤 트랜잭션 밖에서 고객 이름을 붙여 반환합니다.
+     */
+    private OrderDto findOrderDto(Long id) {
+        OrderDto order = inTransaction(() -> orderRepository.findOrderDtoById(id)
+                .orElseThrow(() -> new RuntimeException("Order not found with id: " + id)));
 
-        CustomerDto customer = customerClient.getCustomer(updatedOrder.getCustomerId());
-        return mapToOrderDto(updatedOrder, customer.getName());
+        CustomerDto customer = customerCacheService.getCustomer(order.getCustomerId());
+        order.setCustomerName(customer.getName());
+        return order;
     }
 
-    private String generateOrderNumber() {
-        return "ORD-" + System.currentTimeMillis();
+    /**
+     * 주문 목록의 고객 이름을 캐시와 일괄 조회 API 로 한 번에 가져와 채웁니다.
+     * 고객 서비스 장애 또는 삭제된 고객은 "Unknown Customer" 로 표시합니다.
+     */
+    private void fillCustomerNames(List<OrderDto> orders) {
+        Set<Long> customerIds = orders.stream()
+                .map(OrderDto::getCustomerId)
+                .collect(Collectors.toSet());
+
+        Map<Long, CustomerDto> customers;
+        try {
+            customers = customerCacheService.getCustomers(customerIds);
+        } catch (Exception e) {
+            customers = Map.of();
+        }
+
+        for (OrderDto order : orders) {
+            CustomerDto customer = customers.get(order.getCustomerId());
+            order.setCustomerName(customer != null ? customer.getName() : "Unknown Customer");
+        }
     }
 
     private OrderDto mapToOrderDto(OrderEntity order, String customerName) {
@@ -0,0 +1,77 @@
+package com.example.orderservice.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.orderservice.entity.OrderEntity;
+import com.example.orderservice.entity.OrderEntity.OrderStatus;
+import com.example.orderservice.entity.OrderItemEntity;
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 주문 저장 JDBC 배치 테스트
+ * 시퀀스 ID 와 hibernate.jdbc.batch_size 로 주문과 주문 상품 INSERT 가 테이블별 배치 하나로 묶여야 합니다.
+ * 상품 50개 주문은 INSERT 51건이지만 준비되는 문장은 배치 2개와 시퀀스 호출뿐이어야 합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OrderRepositoryBatchInsertTest {
+
+    private static final int ITEMS = 50;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    // 커밋된 주문이 같은 컨텍스트를 쓰는 다른 저장소 테스트에 남지 않도록 정리
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteAll();
+    }
+
+    @Test
+    void orderWithItemsIsInsertedInTwoBatches() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        saveOrder();
+
+        statistics.clear();
+        saveOrder();
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(ITEMS + 1);
+        // orders, order_item_entity 배치 2개 + 풀이 소진된 시퀀스 호출(최대 2회)
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(4);
+    }
+
+    private void saveOrder() {
+        transactionTemplate.executeWithoutResult(status -> {
+            OrderEntity order = OrderEntity.builder()
+                    .customerId(1L)
+                    .orderNumber("BATCH-" + System.nanoTime())
+                    .status(OrderStatus.CREATED)
+                    .build();
+            for (int k = 0; k < ITEMS; k++) {
+                order.addOrderItem(OrderItemEntity.builder()
+                        .productId((long) k)
+                        .productName("product-" + k)
+                        .quantity(1)
+                        .unitPrice(BigDecimal.ONE)
+                        .build());
+            }
+            orderRepository.save(order);
+        });
+    }
+}
\ No newline at end of file
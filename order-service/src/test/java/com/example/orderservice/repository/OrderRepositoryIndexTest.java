@@ -0,0 +1,130 @@
+package com.example.orderservice.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.orderservice.entity.OrderEntity;
+import com.example.orderservice.entity.OrderEntity.OrderStatus;
+import com.example.orderservice.entity.OrderItemEntity;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.hibernate.Session;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+/**
+ * 주문 조회 경로 인덱스 사용 테스트
+ * 저장소 메서드가 실제로 실행한 SQL 을 StatementInspector 로 가로채 H2 EXPLAIN 으로 확인하므로,
+ * 조회 조건이나 인덱스 정의가 바뀌어 의도한 인덱스를 쓰지 않게 되면 실패합니다.
+ * 주문 헤더 조회는 경로별 인덱스를, 주문 상품 IN 조회는 order_id 인덱스를 사용해야 합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.example.orderservice.repository.OrderRepositoryIndexTest$CapturingStatementInspector")
+class OrderRepositoryIndexTest {
+
+    private static final LocalDateTime BASE_DATE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 4; i++) {
+            OrderEntity order = OrderEntity.builder()
+                    .customerId((long) (i % 2))
+                    .orderNumber("INDEX-" + i)
+                    .status(OrderStatus.CREATED)
+                    .orderDate(BASE_DATE.plusHours(i))
+                    .build();
+            order.addOrderItem(OrderItemEntity.builder()
+                    .productId(1L)
+                    .productName("product-1")
+                    .quantity(1)
+                    .unitPrice(BigDecimal.TEN)
+                    .build());
+            orderRepository.save(order);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void statusAndDateRangeUsesStatusOrderDateIndex() {
+        assertPlans(() -> orderRepository.findOrderDtosByStatusAndDateRange(OrderStatus.CREATED,
+                BASE_DATE, BASE_DATE.plusDays(1)), "IDX_ORDERS_STATUS_ORDER_DATE");
+    }
+
+    @Test
+    void statusKeysetPageUsesStatusOrderDateIndex() {
+        assertPlans(() -> orderRepository.findOrderDtosByStatus(OrderStatus.CREATED,
+                new OrderCursor(BASE_DATE.plusHours(3), Long.MAX_VALUE), 10), "IDX_ORDERS_STATUS_ORDER_DATE");
+    }
+
+    @Test
+    void customerAndStatusUsesCustomerStatusIndex() {
+        assertPlans(() -> orderRepository.findOrderDtosByCustomerIdAndStatus(1L, OrderStatus.CREATED),
+                "IDX_ORDERS_CUSTOMER_ID_STATUS");
+    }
+
+    @Test
+    void customerUsesLeadingColumnOfCustomerStatusIndex() {
+        assertPlans(() -> orderRepository.findOrderDtosByCustomerId(1L), "IDX_ORDERS_CUSTOMER_ID_STATUS");
+    }
+
+    @Test
+    void orderNumberUsesUniqueIndex() {
+        assertPlans(() -> orderRepository.findOrderDtoByOrderNumber("INDEX-1"), "UK_ORDERS_ORDER_NUMBER");
+    }
+
+    /**
+     * 조회를 실행하여 주문 헤더 SELECT 와 주문 상품 IN 조회를 가로챈 뒤 각각의 실행 계획을 확인합니다.
+     */
+    private void assertPlans(Runnable query, String headerIndex) {
+        CapturingStatementInspector.STATEMENTS.clear();
+        query.run();
+        List<String> selects = CapturingStatementInspector.STATEMENTS.stream()
+                .filter(sql -> sql.regionMatches(true, 0, "select", 0, 6))
+                .toList();
+
+        assertThat(selects).hasSize(2);
+        assertThat(plan(selects.get(0))).contains(headerIndex);
+        assertThat(plan(selects.get(1))).contains("IDX_ORDER_ITEM_ENTITY_ORDER_ID");
+    }
+
+    /**
+     * H2 의 EXPLAIN 은 바인딩되지 않은 파라미터(?)를 허용하므로 가로챈 SQL 을 그대로 사용합니다.
+     */
+    private String plan(String sql) {
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql);
+                    ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getString(1).toUpperCase();
+            }
+        });
+    }
+
+    /**
+     * Hibernate 가 실행하는 SQL 을 기록합니다 (Hibernate 가 인스턴스를 만들므로 기록은 정적 필드에 둠).
+     */
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.orderservice.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.orderservice.dto.OrderDto;
+import com.example.orderservice.dto.OrderItemDto;
+import com.example.orderservice.entity.OrderEntity;
+import com.example.orderservice.entity.OrderEntity.OrderStatus;
+import com.example.orderservice.entity.OrderItemEntity;
+import jakarta.persistence.EntityManager;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+/**
+ * 주문 읽기 DTO 프로젝션 벤치마크
+ * 프로젝션 경로는 엔티티 경로와 같은 결과를 내면서 영속성 컨텍스트에 엔티티를 올리지 않고,
+ * 주문 1건당 할당량이 엔티티를 읽어 DTO 로 변환하는 경로보다 적어야 합니다.
+ * 주문 1000건당 지연 시간과 할당량 비교는 benchmark 태그로 분리되어 ./gradlew benchmark 에서만 실행됩니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class OrderRepositoryProjectionBenchmarkTest {
+
+    private static final int ORDERS = 1000;
+    private static final int ITEMS_PER_ORDER = 3;
+    private static final int WARMUP_RUNS = 5;
+    private static final int MEASURED_RUNS = 20;
+    private static final int BENCHMARK_RUNS = 200;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < ORDERS; i++) {
+            OrderEntity order = OrderEntity.builder()
+                    .customerId((long) (i % 50))
+                    .orderNumber("BENCH-" + i)
+                    .status(OrderStatus.CREATED)
+                    .orderDate(now.minusMinutes(i))
+                    .build();
+            for (int k = 0; k < ITEMS_PER_ORDER; k++) {
+                order.addOrderItem(OrderItemEntity.builder()
+                        .productId((long) k)
+                        .productName("product-" + k)
+                        .quantity(2)
+                        .unitPrice(new BigDecimal("9.99"))
+                        .build());
+            }
+            entityManager.persist(order);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void projectionMatchesEntityPathWithoutLoadingEntities() {
+        List<OrderDto> fromEntities = entityPath();
+        entityManager.clear();
+
+        statistics.clear();
+        List<OrderDto> fromProjection = orderRepository.findAllOrderDtos();
+
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(fromProjection).hasSize(ORDERS);
+        assertThat(fromProjection)
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyInAnyOrderElementsOf(fromEntities);
+    }
+
+    @Test
+    void projectionAllocatesLessThanEntityPath() {
+        long entityBytes = measure(this::entityPath, MEASURED_RUNS).allocatedBytes();
+        long projectionBytes = measure(orderRepository::findAllOrderDtos, MEASURED_RUNS).allocatedBytes();
+
+        assertThat(projectionBytes).isLessThan(entityBytes);
+    }
+
+    @Test
+    @Tag("benchmark")
+    void reportLatencyAndAllocationPerThousandOrders() {
+        Measurement entity = measure(this::entityPath, BENCHMARK_RUNS);
+        Measurement projection = measure(orderRepository::findAllOrderDtos, BENCHMARK_RUNS);
+
+        System.out.printf("주문 %d건 읽기 (%d회): 엔티티 %s / 프로젝션 %s%n", ORDERS, BENCHMARK_RUNS, entity, projection);
+        assertThat(projection.allocatedBytes()).isLessThan(entity.allocatedBytes());
+    }
+
+    private Measurement measure(Supplier<List<OrderDto>> path, int runs) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        for (int run = 0; run < WARMUP_RUNS; run++) {
+            entityManager.clear();
+            path.get();
+        }
+
+        long[] elapsed = new long[runs];
+        long allocated = 0;
+        for (int run = 0; run < runs; run++) {
+            entityManager.clear();
+            long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            List<OrderDto> orders = path.get();
+            elapsed[run] = System.nanoTime() - start;
+            allocated += threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+            assertThat(orders).hasSize(ORDERS);
+        }
+        Arrays.sort(elapsed);
+        return new Measurement(elapsed[runs / 2], elapsed[runs * 95 / 100], allocated / runs);
+    }
+
+    // 프로젝션 도입 전의 읽기 경로: 엔티티를 fetch join 으로 읽은 뒤 DTO 로 변환
+    private List<OrderDto> entityPath() {
+        return entityManager.createQuery("select distinct o from OrderEntity o left join fetch o.orderItems"
+                        + " order by o.orderDate desc, o.id desc", OrderEntity.class)
+                .getResultList().stream()
+                .map(order -> OrderDto.builder()
+                        .id(order.getId())
+                        .customerId(order.getCustomerId())
+                        .orderNumber(order.getOrderNumber())
+                        .status(order.getStatus())
+                        .orderDate(order.getOrderDate())
+                        .totalAmount(order.getTotalAmount())
+                        .items(order.getOrderItems().stream()
+                                .map(item -> OrderItemDto.builder()
+                                        .id(item.getId())
+                                        .productId(item.getProductId())
+                                        .productName(item.getProductName())
+                                        .quantity(item.getQuantity())
+                                        .unitPrice(item.getUnitPrice())
+                                        .totalPrice(item.getTotalPrice())
+                                        .build())
+                                .collect(Collectors.toList()))
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private record Measurement(long medianNanos, long p95Nanos, long allocatedBytes) {
+
+        @Override
+        public String toString() {
+            return String.format("median=%.2fms p95=%.2fms alloc=%.2fMB", medianNanos / 1e6, p95Nanos / 1e6,
+                    allocatedBytes / 1e6);
+        }
+    }
+}
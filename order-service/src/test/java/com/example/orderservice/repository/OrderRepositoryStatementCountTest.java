@@ -0,0 +1,118 @@
+package com.example.orderservice.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.orderservice.dto.OrderDto;
+import com.example.orderservice.entity.OrderEntity;
+import com.example.orderservice.entity.OrderEntity.OrderStatus;
+import com.example.orderservice.entity.OrderItemEntity;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+/**
+ * 주문 목록 조회 SQL 실행 횟수 테스트
+ * 조회 API 가 사용하는 DTO 조회는 주문 헤더 SELECT 한 번과 주문 상품 IN 조회 한 번으로,
+ * 주문 수와 관계없이 SELECT 두 번이어야 합니다 (N+1 없음).
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class OrderRepositoryStatementCountTest {
+
+    private static final int ORDERS = 20;
+    private static final int ITEMS_PER_ORDER = 3;
+    private static final LocalDateTime BASE_DATE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        saveOrders(0, ORDERS);
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void findAllOrderDtosRunsTwoStatementsRegardlessOfOrderCount() {
+        assertStatementCount(orderRepository::findAllOrderDtos, ORDERS);
+
+        saveOrders(ORDERS, ORDERS);
+        assertStatementCount(orderRepository::findAllOrderDtos, ORDERS * 2);
+    }
+
+    @Test
+    void findOrderDtosByCustomerIdRunsTwoStatements() {
+        List<OrderDto> orders = assertStatementCount(() -> orderRepository.findOrderDtosByCustomerId(1L), ORDERS / 2);
+
+        assertThat(orders).allMatch(order -> order.getCustomerId() == 1L);
+    }
+
+    @Test
+    void findOrderDtosByCustomerIdAndStatusRunsTwoStatements() {
+        List<OrderDto> orders = assertStatementCount(
+                () -> orderRepository.findOrderDtosByCustomerIdAndStatus(1L, OrderStatus.CREATED), ORDERS / 2);
+
+        assertThat(orders).allMatch(order -> order.getCustomerId() == 1L);
+        assertThat(orderRepository.findOrderDtosByCustomerIdAndStatus(1L, OrderStatus.CANCELLED)).isEmpty();
+    }
+
+    @Test
+    void findOrderDtosByStatusRunsTwoStatementsPerPage() {
+        List<OrderDto> firstPage = assertStatementCount(
+                () -> orderRepository.findOrderDtosByStatus(OrderStatus.CREATED, null, 15), 15);
+        OrderDto last = firstPage.get(firstPage.size() - 1);
+
+        assertStatementCount(() -> orderRepository.findOrderDtosByStatus(OrderStatus.CREATED,
+                new OrderCursor(last.getOrderDate(), last.getId()), 15), ORDERS - 15);
+    }
+
+    @Test
+    void findOrderDtosByStatusAndDateRangeRunsTwoStatements() {
+        assertStatementCount(() -> orderRepository.findOrderDtosByStatusAndDateRange(OrderStatus.CREATED,
+                BASE_DATE, BASE_DATE.plusHours(9)), 10);
+    }
+
+    private List<OrderDto> assertStatementCount(Supplier<List<OrderDto>> query, int expectedOrders) {
+        statistics.clear();
+        List<OrderDto> orders = query.get();
+
+        assertThat(orders).hasSize(expectedOrders);
+        assertThat(orders).allMatch(order -> order.getItems().size() == ITEMS_PER_ORDER);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        return orders;
+    }
+
+    private void saveOrders(int from, int count) {
+        for (int i = from; i < from + count; i++) {
+            OrderEntity order = OrderEntity.builder()
+                    .customerId((long) (i % 2))
+                    .orderNumber("COUNT-" + i)
+                    .status(OrderStatus.CREATED)
+                    .orderDate(BASE_DATE.plusHours(i))
+                    .build();
+            for (int k = 0; k < ITEMS_PER_ORDER; k++) {
+                order.addOrderItem(OrderItemEntity.builder()
+                        .productId((long) k)
+                        .productName("product-" + k)
+                        .quantity(1)
+                        .unitPrice(BigDecimal.TEN)
+                        .build());
+            }
+            orderRepository.save(order);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
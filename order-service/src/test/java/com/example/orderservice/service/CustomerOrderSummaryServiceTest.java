@@ -0,0 +1,143 @@
+package com.example.orderservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.orderservice.client.CustomerClient;
+import com.example.orderservice.client.ProductClient;
+import com.example.orderservice.entity.CustomerOrderSummaryEntity;
+import com.example.orderservice.entity.OrderEntity;
+import com.example.orderservice.entity.OrderEntity.OrderStatus;
+import com.example.orderservice.repository.CustomerOrderSummaryRepository;
+import com.example.orderservice.repository.OrderRepository;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 고객별 주문 요약 생성 테스트
+ * 요약 행이 없는 고객의 첫 변경은 주문 트랜잭션의 커넥션 하나로 요약을 재구성해야 하며,
+ * 모든 커넥션이 주문 트랜잭션에 점유된 상태에서도 추가 커넥션을 기다리지 않아야 합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:summarytest;DB_CLOSE_DELAY=-1",
+        "spring.datasource.hikari.maximum-pool-size=2",
+        "spring.datasource.hikari.connection-timeout=2000"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(OrderServiceTestConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CustomerOrderSummaryServiceTest {
+
+    private static final Long CUSTOMER_ID = 7L;
+
+    @MockBean
+    private ProductClient productClient;
+
+    @MockBean
+    private CustomerClient customerClient;
+
+    @Autowired
+    private CustomerOrderSummaryService customerOrderSummaryService;
+
+    @Autowired
+    private CustomerOrderSummaryRepository customerOrderSummaryRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        customerOrderSummaryRepository.deleteAll();
+        orderRepository.deleteAll();
+    }
+
+    @Test
+    void firstChangeRebuildsSummaryFromExistingOrders() {
+        // 요약 기능 도입 전에 저장된 주문
+        orderRepository.save(order("1000", OrderStatus.DELIVERED));
+        orderRepository.save(order("500", OrderStatus.CANCELLED));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            OrderEntity saved = orderRepository.save(order("2000", OrderStatus.CREATED));
+            customerOrderSummaryService.recordCreated(saved);
+        });
+
+        CustomerOrderSummaryEntity summary = customerOrderSummaryRepository.findById(CUSTOMER_ID).orElseThrow();
+        assertThat(summary.isInitialized()).isTrue();
+        assertThat(summary.getOrderCount()).isEqualTo(3);
+        assertThat(summary.getTotalSpent()).isEqualByComparingTo("3000");
+        assertThat(summary.getRecentOrders()).hasSize(3);
+
+        // 이후 변경은 증분으로 반영
+        transactionTemplate.executeWithoutResult(status -> {
+            OrderEntity saved = orderRepository.save(order("300", OrderStatus.CREATED));
+            customerOrderSummaryService.recordCreated(saved);
+        });
+        assertThat(customerOrderSummaryRepository.findById(CUSTOMER_ID).orElseThrow().getOrderCount()).isEqualTo(4);
+    }
+
+    @Test
+    void concurrentFirstOrdersDoNotNeedExtraConnections() throws Exception {
+        int threads = 2;
+        CyclicBarrier barrier = new CyclicBarrier(threads);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                    // 주문을 저장해 두 트랜잭션이 풀의 커넥션을 모두 점유한 뒤 요약을 갱신
+                    OrderEntity saved = orderRepository.saveAndFlush(order("1000", OrderStatus.CREATED));
+                    await(barrier);
+                    customerOrderSummaryService.recordCreated(saved);
+                })));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        CustomerOrderSummaryEntity summary = customerOrderSummaryRepository.findById(CUSTOMER_ID).orElseThrow();
+        assertThat(summary.getOrderCount()).isEqualTo(2);
+        assertThat(summary.getTotalSpent()).isEqualByComparingTo("2000");
+        assertThat(customerOrderSummaryRepository.count()).isEqualTo(1);
+    }
+
+    private OrderEntity order(String amount, OrderStatus status) {
+        return OrderEntity.builder()
+                .customerId(CUSTOMER_ID)
+                .orderNumber("SUM-" + System.nanoTime())
+                .status(status)
+                .orderDate(LocalDateTime.now())
+                .totalAmount(new BigDecimal(amount))
+                .build();
+    }
+
+    private static void await(CyclicBarrier barrier) {
+        try {
+            barrier.await(10, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
\ No newline at end of file
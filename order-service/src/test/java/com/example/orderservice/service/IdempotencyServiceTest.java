@@ -0,0 +1,120 @@
+package com.example.orderservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.orderservice.dto.CreateOrderRequest;
+import com.example.orderservice.dto.CreateOrderRequest.OrderItemRequest;
+import com.example.orderservice.repository.IdempotencyKeyRepository;
+import com.example.orderservice.service.IdempotencyService.Claim;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Idempotency-Key 선점 테스트
+ * 본문 지문 비교, 처리 중 키의 선점 기간 만료 후 재선점, 재선점된 키의 중복 완료와 해제 방지를 확인합니다.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class IdempotencyServiceTest {
+
+    @Autowired
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private IdempotencyService idempotencyService;
+    private IdempotencyService expiredLeaseService;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyKeyRepository.deleteAll();
+        ObjectMapper objectMapper = new ObjectMapper();
+        idempotencyService = new IdempotencyService(idempotencyKeyRepository, transactionManager, objectMapper, 24, 60);
+        // 선점하자마자 선점 기간이 지난 것처럼 동작 (비정상 종료된 인스턴스 흉내)
+        expiredLeaseService = new IdempotencyService(idempotencyKeyRepository, transactionManager, objectMapper, 24, -1);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    void differentBodyWithSameHashCodeIsRejected() {
+        // Long 해시는 상위/하위 32비트 XOR 이므로 1 과 2^32 의 hashCode 가 같음
+        CreateOrderRequest first = request(1L);
+        CreateOrderRequest second = request(1L << 32);
+        assertThat(first.hashCode()).isEqualTo(second.hashCode());
+
+        Claim claim = idempotencyService.claim("collision", first);
+        assertThat(claim.isCompleted()).isFalse();
+        complete(claim, 100L);
+
+        assertThatThrownBy(() -> idempotencyService.claim("collision", second))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY));
+        assertThat(idempotencyService.claim("collision", request(1L)).getOrderId()).isEqualTo(100L);
+    }
+
+    @Test
+    void inProgressKeyIsRejectedUntilLeaseExpires() {
+        assertThat(idempotencyService.claim("in-progress", request(1L)).isCompleted()).isFalse();
+
+        assertThatThrownBy(() -> idempotencyService.claim("in-progress", request(1L)))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.CONFLICT));
+    }
+
+    @Test
+    void expiredLeaseIsReclaimedAndOnlyOneAttemptCompletes() {
+        Claim original = expiredLeaseService.claim("crashed", request(1L));
+
+        // 선점 기간이 지났으므로 재시도가 키를 이어받음
+        Claim retry = idempotencyService.claim("crashed", request(1L));
+        assertThat(retry.isCompleted()).isFalse();
+        assertThat(retry.getClaimToken()).isNotEqualTo(original.getClaimToken());
+
+        // 뒤늦게 끝난 원래 시도는 재시도의 선점을 빼앗아 완료하지 못함
+        assertThatThrownBy(() -> complete(original, 300L))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.CONFLICT));
+        complete(retry, 200L);
+        assertThat(idempotencyService.claim("crashed", request(1L)).getOrderId()).isEqualTo(200L);
+    }
+
+    @Test
+    void staleAttemptDoesNotReleaseReclaimedKey() {
+        Claim original = expiredLeaseService.claim("stale-release", request(1L));
+        Claim retry = idempotencyService.claim("stale-release", request(1L));
+
+        // 원래 시도가 실패해 해제해도 재시도의 선점은 남아 있어야 함
+        idempotencyService.release(original);
+        assertThatThrownBy(() -> idempotencyService.claim("stale-release", request(1L)))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.CONFLICT));
+
+        // 자신의 선점은 해제할 수 있음
+        idempotencyService.release(retry);
+        assertThat(idempotencyKeyRepository.findById("stale-release")).isEmpty();
+    }
+
+    private void complete(Claim claim, Long orderId) {
+        transactionTemplate.executeWithoutResult(status -> idempotencyService.complete(claim, orderId));
+    }
+
+    private CreateOrderRequest request(Long customerId) {
+        return CreateOrderRequest.builder()
+                .customerId(customerId)
+                .items(List.of(OrderItemRequest.builder().productId(1L).quantity(2).build()))
+                .build();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,95 @@
+package com.example.orderservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 주문번호 생성기 테스트
+ * 여러 스레드가 동시에 생성해도 ID 가 겹치지 않고 스레드별로 단조 증가하는지 확인합니다.
+ */
+class OrderNumberGeneratorTest {
+
+    private static final int THREADS = 8;
+    private static final int IDS_PER_THREAD = 250_000;
+    private static final long NODE_ID = 5;
+
+    @Test
+    void concurrentIdsAreUniqueAndMonotonicPerThread() throws Exception {
+        OrderNumberGenerator generator = new OrderNumberGenerator(NODE_ID);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+
+        runConcurrently(() -> {
+            long previous = -1;
+            for (int i = 0; i < IDS_PER_THREAD; i++) {
+                long id = generator.nextId();
+                if (id <= previous) {
+                    throw new AssertionError("ID 가 단조 증가하지 않음: " + previous + " -> " + id);
+                }
+                previous = id;
+                ids.add(id);
+            }
+        });
+
+        assertThat(ids).hasSize(THREADS * IDS_PER_THREAD);
+        assertThat(ids).allMatch(id -> ((id >>> 12) & 0x3FF) == NODE_ID);
+    }
+
+    @Test
+    void differentNodesNeverCollide() throws Exception {
+        OrderNumberGenerator node1 = new OrderNumberGenerator(1);
+        OrderNumberGenerator node2 = new OrderNumberGenerator(2);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+
+        runConcurrently(() -> {
+            for (int i = 0; i < IDS_PER_THREAD / 10; i++) {
+                ids.add(node1.nextId());
+                ids.add(node2.nextId());
+            }
+        });
+
+        assertThat(ids).hasSize(THREADS * (IDS_PER_THREAD / 10) * 2);
+    }
+
+    @Test
+    void orderNumberHasPrefix() {
+        assertThat(new OrderNumberGenerator(0).nextOrderNumber()).matches("ORD-\\d+");
+    }
+
+    @Test
+    void nodeIdOutOfRangeIsRejected() {
+        assertThatThrownBy(() -> new OrderNumberGenerator(1024)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new OrderNumberGenerator(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void runConcurrently(Runnable task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run();
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
\ No newline at end of file
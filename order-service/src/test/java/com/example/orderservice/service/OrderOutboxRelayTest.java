@@ -0,0 +1,150 @@
+package com.example.orderservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+
+import com.example.orderservice.client.CustomerClient;
+import com.example.orderservice.client.ProductClient;
+import com.example.orderservice.dto.OrderDto;
+import com.example.orderservice.dto.OrderEvent;
+import com.example.orderservice.entity.OrderEntity.OrderStatus;
+import com.example.orderservice.entity.OrderOutboxEntity;
+import com.example.orderservice.repository.OrderOutboxRepository;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 주문 이벤트 아웃박스 발행 순서 테스트
+ * 발행에 실패한 이벤트나 다른 인스턴스가 발행 중인 이벤트보다 같은 주문의 이후 이벤트가 먼저 발행되면 안 됩니다.
+ * 발행할 수 없는 이벤트는 최대 시도 횟수 뒤 제외되어 다른 주문의 발행을 막지 않아야 합니다.
+ */
+@DataJpaTest(properties = "order.outbox.max-attempts=3")
+@Import(OrderServiceTestConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OrderOutboxRelayTest {
+
+    @MockBean
+    private ProductClient productClient;
+
+    @MockBean
+    private CustomerClient customerClient;
+
+    @MockBean
+    private OrderEventPublisher orderEventPublisher;
+
+    @Autowired
+    private OrderOutboxRelay orderOutboxRelay;
+
+    @Autowired
+    private OrderOutboxService orderOutboxService;
+
+    @Autowired
+    private OrderOutboxRepository orderOutboxRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final List<OrderEvent> published = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        orderOutboxRepository.deleteAll();
+        doNothing().when(orderEventPublisher).publish(anyList());
+    }
+
+    @Test
+    void failedBatchIsRetriedBeforeLaterEvents() {
+        record(1L, OrderEvent.Type.ORDER_CREATED);
+        doThrow(new RuntimeException("endpoint down")).when(orderEventPublisher).publish(anyList());
+
+        assertThat(orderOutboxRelay.relayBatch()).isZero();
+        assertThat(orderOutboxRepository.findAll()).allMatch(row -> row.getLeaseUntil() == null);
+
+        // 실패 이후 같은 주문의 다음 이벤트가 기록되어도 실패한 이벤트부터 발행
+        record(1L, OrderEvent.Type.ORDER_CONFIRMED);
+        capturePublished();
+        assertThat(orderOutboxRelay.relayBatch()).isEqualTo(2);
+        assertThat(published).extracting(OrderEvent::getType)
+                .containsExactly(OrderEvent.Type.ORDER_CREATED, OrderEvent.Type.ORDER_CONFIRMED);
+    }
+
+    @Test
+    void eventFailingMaxAttemptsIsSetAsideWithoutBlockingOtherOrders() {
+        record(1L, OrderEvent.Type.ORDER_CREATED);
+        record(1L, OrderEvent.Type.ORDER_CONFIRMED);
+        record(2L, OrderEvent.Type.ORDER_CREATED);
+        doThrow(new RuntimeException("rejected")).when(orderEventPublisher).publish(anyList());
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(orderOutboxRelay.relayBatch()).isZero();
+        }
+
+        // 실패 횟수는 처음 실패한 행에만 쌓이고, 최대치에 이르면 발행을 중단
+        List<OrderOutboxEntity> rows = new ArrayList<>(orderOutboxRepository.findAll());
+        rows.sort(Comparator.comparing(OrderOutboxEntity::getId));
+        assertThat(rows.get(0).getAttempts()).isEqualTo(3);
+        assertThat(rows.get(0).getFailedAt()).isNotNull();
+        assertThat(rows.subList(1, 3)).allMatch(row -> row.getAttempts() == 0 && row.getFailedAt() == null);
+
+        // 다른 주문의 이벤트는 발행되고, 같은 주문의 이후 이벤트는 순서를 지키기 위해 보류
+        capturePublished();
+        assertThat(orderOutboxRelay.relayBatch()).isEqualTo(1);
+        assertThat(published).extracting(OrderEvent::getOrderId).containsExactly(2L);
+        assertThat(orderOutboxRepository.findById(rows.get(1).getId()).orElseThrow().getPublishedAt()).isNull();
+    }
+
+    @Test
+    void laterEventsWaitWhileEarlierEventIsLeased() {
+        record(1L, OrderEvent.Type.ORDER_CREATED);
+        record(1L, OrderEvent.Type.ORDER_CONFIRMED);
+        record(2L, OrderEvent.Type.ORDER_CREATED);
+
+        // 다른 인스턴스가 주문 1 의 첫 이벤트를 발행 중인 상태
+        transactionTemplate.executeWithoutResult(status -> orderOutboxRepository.findAll().stream()
+                .filter(row -> row.getOrderId() == 1L)
+                .min(Comparator.comparing(OrderOutboxEntity::getId))
+                .orElseThrow()
+                .lease(LocalDateTime.now().plusMinutes(1)));
+
+        capturePublished();
+        assertThat(orderOutboxRelay.relayBatch()).isEqualTo(1);
+        assertThat(published).extracting(OrderEvent::getOrderId).containsExactly(2L);
+        assertThat(orderOutboxRepository.findAll())
+                .filteredOn(row -> row.getOrderId() == 1L)
+                .allMatch(row -> row.getPublishedAt() == null);
+    }
+
+    private void capturePublished() {
+        doAnswer(invocation -> {
+            List<OrderEvent> events = invocation.getArgument(0);
+            published.addAll(events);
+            return null;
+        }).when(orderEventPublisher).publish(anyList());
+    }
+
+    private void record(Long orderId, OrderEvent.Type type) {
+        OrderDto order = OrderDto.builder()
+                .id(orderId)
+                .orderNumber("OUTBOX-" + orderId)
+                .customerId(1L)
+                .status(OrderStatus.CREATED)
+                .totalAmount(BigDecimal.TEN)
+                .build();
+        transactionTemplate.executeWithoutResult(status -> orderOutboxService.record(order, type));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,201 @@
+package com.example.orderservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.orderservice.client.CustomerClient;
+import com.example.orderservice.client.ProductClient;
+import com.example.orderservice.dto.CustomerDto;
+import com.example.orderservice.dto.StockReservationRequest;
+import com.example.orderservice.entity.OrderEntity;
+import com.example.orderservice.entity.OrderEntity.OrderStatus;
+import com.example.orderservice.entity.OrderItemEntity;
+import com.example.orderservice.entity.OrderSagaEntity;
+import com.example.orderservice.entity.OrderSagaEntity.SagaStatus;
+import com.example.orderservice.repository.OrderRepository;
+import com.example.orderservice.repository.OrderSagaRepository;
+import feign.FeignException;
+import feign.Request;
+import java.math.BigDecimal;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 주문 생성 사가 재고 예약 테스트
+ * 결과를 알 수 없는 예약 실패는 주문을 취소하지 않고 같은 주문 ID 로 다시 예약하며,
+ * 거절된 예약만 즉시 취소하고, 시도 횟수를 모두 쓰면 주문을 취소하고 예약을 복원해야 합니다.
+ * 사가 도입 이전 주문을 취소하면 상품 서비스에 예약 기록이 없어도 재고가 복원되어야 합니다.
+ */
+@DataJpaTest(properties = {
+        "order.saga.max-reserve-attempts=3",
+        "order.saga.stale-after-seconds=0"
+})
+@Import(OrderServiceTestConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OrderSagaOrchestratorTest {
+
+    @MockBean
+    private ProductClient productClient;
+
+    @MockBean
+    private CustomerClient customerClient;
+
+    @Autowired
+    private OrderSagaOrchestrator orderSagaOrchestrator;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private CustomerOrderSummaryService customerOrderSummaryService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderSagaRepository orderSagaRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long orderId;
+
+    @BeforeEach
+    void setUp() {
+        orderSagaRepository.deleteAll();
+        orderRepository.deleteAll();
+        orderId = transactionTemplate.execute(status -> {
+            OrderEntity order = OrderEntity.builder()
+                    .customerId(1L)
+                    .orderNumber("SAGA-" + System.nanoTime())
+                    .status(OrderStatus.CREATED)
+                    .orderDate(LocalDateTime.now())
+                    .build();
+            order.addOrderItem(OrderItemEntity.builder()
+                    .productId(10L)
+                    .productName("product-10")
+                    .quantity(2)
+                    .unitPrice(new BigDecimal("1000"))
+                    .build());
+            OrderEntity saved = orderRepository.save(order);
+            orderSagaOrchestrator.begin(saved.getId());
+            customerOrderSummaryService.recordCreated(saved);
+            return saved.getId();
+        });
+    }
+
+    @Test
+    void ambiguousFailureIsRetriedWithSameOrderId() {
+        when(productClient.reserveStock(any()))
+                .thenThrow(new RuntimeException(new SocketTimeoutException("Read timed out")))
+                .thenReturn(List.of());
+
+        orderSagaOrchestrator.execute(orderId);
+        assertThat(saga().getStatus()).isEqualTo(SagaStatus.RESERVING);
+        assertThat(saga().getLastError()).contains("Read timed out");
+        assertThat(orderStatus()).isEqualTo(OrderStatus.CREATED);
+
+        // 복구 스케줄러가 RESERVING 사가를 다시 실행
+        orderSagaOrchestrator.recoverStaleSagas();
+
+        ArgumentCaptor<StockReservationRequest> requests = ArgumentCaptor.forClass(StockReservationRequest.class);
+        verify(productClient, timeout(5000).times(2)).reserveStock(requests.capture());
+        assertThat(requests.getAllValues()).extracting(StockReservationRequest::getOrderId)
+                .containsExactly(orderId, orderId);
+        awaitSagaStatus(SagaStatus.CONFIRMED);
+        assertThat(orderStatus()).isEqualTo(OrderStatus.PROCESSING);
+        verify(productClient, never()).releaseStock(any());
+    }
+
+    @Test
+    void rejectedReservationCancelsOrder() {
+        when(productClient.reserveStock(any())).thenThrow(new FeignException.Conflict(
+                "Not enough stock for product: 10", request(), null, Map.of()));
+
+        orderSagaOrchestrator.execute(orderId);
+
+        assertThat(saga().getStatus()).isEqualTo(SagaStatus.FAILED);
+        assertThat(orderStatus()).isEqualTo(OrderStatus.CANCELLED);
+        verify(productClient, never()).releaseStock(any());
+    }
+
+    @Test
+    void exhaustedRetriesCancelOrderAndReleaseReservation() {
+        when(productClient.reserveStock(any()))
+                .thenThrow(new RuntimeException(new SocketTimeoutException("Read timed out")));
+
+        for (int attempt = 1; attempt <= 3; attempt++) {
+            orderSagaOrchestrator.execute(orderId);
+        }
+
+        ArgumentCaptor<StockReservationRequest> release = ArgumentCaptor.forClass(StockReservationRequest.class);
+        verify(productClient, times(3)).reserveStock(any());
+        verify(productClient).releaseStock(release.capture());
+        assertThat(release.getValue().getOrderId()).isEqualTo(orderId);
+        assertThat(release.getValue().isReservedBeforeTracking()).isFalse();
+        assertThat(saga().getStatus()).isEqualTo(SagaStatus.COMPENSATED);
+        assertThat(orderStatus()).isEqualTo(OrderStatus.CANCELLED);
+    }
+
+    @Test
+    void cancellingOrderWithoutSagaReleasesStockReservedBeforeTracking() {
+        // 사가 도입 이전에 재고를 차감하고 확정된 주문
+        transactionTemplate.executeWithoutResult(status -> {
+            orderSagaRepository.delete(saga());
+            orderRepository.findById(orderId).orElseThrow().updateStatus(OrderStatus.PROCESSING);
+        });
+        when(customerClient.getCustomer(anyLong()))
+                .thenReturn(CustomerDto.builder().id(1L).name("customer-1").build());
+
+        orderService.cancelOrder(orderId);
+
+        ArgumentCaptor<StockReservationRequest> release = ArgumentCaptor.forClass(StockReservationRequest.class);
+        verify(productClient, timeout(5000)).releaseStock(release.capture());
+        assertThat(release.getValue().getOrderId()).isEqualTo(orderId);
+        assertThat(release.getValue().isReservedBeforeTracking()).isTrue();
+        assertThat(release.getValue().getItems()).extracting(StockReservationRequest.ReservationItem::getQuantity)
+                .containsExactly(2);
+        awaitSagaStatus(SagaStatus.COMPENSATED);
+        assertThat(orderStatus()).isEqualTo(OrderStatus.CANCELLED);
+    }
+
+    private OrderSagaEntity saga() {
+        return orderSagaRepository.findByOrderId(orderId).orElseThrow();
+    }
+
+    private OrderStatus orderStatus() {
+        return orderRepository.findById(orderId).orElseThrow().getStatus();
+    }
+
+    private void awaitSagaStatus(SagaStatus expected) {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (saga().getStatus() != expected && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThat(saga().getStatus()).isEqualTo(expected);
+    }
+
+    private static Request request() {
+        return Request.create(Request.HttpMethod.POST, "/api/products/stock/reservations", Map.of(), null,
+                StandardCharsets.UTF_8, null);
+    }
+}
\ No newline at end of file
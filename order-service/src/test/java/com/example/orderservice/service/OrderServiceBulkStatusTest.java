@@ -0,0 +1,236 @@
+package com.example.orderservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.example.orderservice.client.CustomerClient;
+import com.example.orderservice.client.ProductClient;
+import com.example.orderservice.dto.BulkStatusUpdateRequest;
+import com.example.orderservice.dto.BulkStatusUpdateResponse;
+import com.example.orderservice.dto.BulkStatusUpdateResponse.Failure;
+import com.example.orderservice.dto.BulkStatusUpdateResponse.Reason;
+import com.example.orderservice.dto.OrderEvent;
+import com.example.orderservice.entity.OrderEntity;
+import com.example.orderservice.entity.OrderEntity.OrderStatus;
+import com.example.orderservice.entity.OrderItemEntity;
+import com.example.orderservice.entity.OrderOutboxEntity;
+import com.example.orderservice.repository.CustomerOrderSummaryRepository;
+import com.example.orderservice.repository.OrderOutboxRepository;
+import com.example.orderservice.repository.OrderRepository;
+import com.example.orderservice.repository.OrderSagaRepository;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 주문 상태 일괄 변경 테스트
+ * 요청 검증과 실패 목록(NOT_FOUND, INVALID_TRANSITION)을 확인하고,
+ * 일괄 변경이 잠근 주문을 단건 취소가 커밋 이후 상태로 다시 검사하는지 확인합니다.
+ */
+@DataJpaTest
+@Import(OrderServiceTestConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OrderServiceBulkStatusTest {
+
+    @MockBean
+    private ProductClient productClient;
+
+    @MockBean
+    private CustomerClient customerClient;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderOutboxRepository orderOutboxRepository;
+
+    @Autowired
+    private OrderSagaRepository orderSagaRepository;
+
+    @Autowired
+    private CustomerOrderSummaryRepository customerOrderSummaryRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        orderOutboxRepository.deleteAll();
+        orderSagaRepository.deleteAll();
+        customerOrderSummaryRepository.deleteAll();
+        orderRepository.deleteAll();
+    }
+
+    @Test
+    void missingAndInvalidOrdersAreReportedAsFailures() {
+        OrderEntity processing = saveOrder("BULK-1", OrderStatus.PROCESSING);
+        OrderEntity created = saveOrder("BULK-2", OrderStatus.CREATED);
+        long missingId = processing.getId() + 1000;
+
+        BulkStatusUpdateResponse response = orderService.updateOrderStatuses(BulkStatusUpdateRequest.builder()
+                .orderIds(List.of(processing.getId(), created.getId(), missingId, processing.getId()))
+                .targetStatus(OrderStatus.DELIVERED)
+                .build());
+
+        assertThat(response.getMatched()).isEqualTo(2);
+        assertThat(response.getUpdated()).isEqualTo(1);
+        assertThat(response.getFailures()).extracting(Failure::getOrderId, Failure::getCurrentStatus, Failure::getReason)
+                .containsExactlyInAnyOrder(
+                        tuple(missingId, null, Reason.NOT_FOUND),
+                        tuple(created.getId(), OrderStatus.CREATED,
+                                Reason.INVALID_TRANSITION));
+        assertThat(statusOf(processing)).isEqualTo(OrderStatus.DELIVERED);
+        assertThat(statusOf(created)).isEqualTo(OrderStatus.CREATED);
+        assertThat(eventTypes(processing)).containsExactly(OrderEvent.Type.ORDER_STATUS_CHANGED.name());
+        assertThat(eventTypes(created)).isEmpty();
+    }
+
+    @Test
+    void filterUpdatesOnlyMatchingOrders() {
+        OrderEntity match = saveOrder("BULK-3", OrderStatus.PROCESSING);
+        OrderEntity otherStatus = saveOrder("BULK-4", OrderStatus.CREATED);
+
+        BulkStatusUpdateResponse response = orderService.updateOrderStatuses(BulkStatusUpdateRequest.builder()
+                .currentStatus(OrderStatus.PROCESSING)
+                .customerId(1L)
+                .targetStatus(OrderStatus.DELIVERED)
+                .build());
+
+        assertThat(response.getMatched()).isEqualTo(1);
+        assertThat(response.getUpdated()).isEqualTo(1);
+        assertThat(response.getFailures()).isEmpty();
+        assertThat(statusOf(match)).isEqualTo(OrderStatus.DELIVERED);
+        assertThat(statusOf(otherStatus)).isEqualTo(OrderStatus.CREATED);
+    }
+
+    @Test
+    void invalidRequestsAreRejected() {
+        // orderIds 와 currentStatus 중 하나만 지정해야 함
+        assertBadRequest(BulkStatusUpdateRequest.builder()
+                .orderIds(List.of(1L))
+                .currentStatus(OrderStatus.PROCESSING)
+                .targetStatus(OrderStatus.DELIVERED)
+                .build());
+        assertBadRequest(BulkStatusUpdateRequest.builder()
+                .targetStatus(OrderStatus.DELIVERED)
+                .build());
+        // 조건의 현재 상태에서 목표 상태로 전이할 수 없음
+        assertBadRequest(BulkStatusUpdateRequest.builder()
+                .currentStatus(OrderStatus.CREATED)
+                .targetStatus(OrderStatus.DELIVERED)
+                .build());
+        // 취소는 사가 보상이 필요하므로 일괄 변경 대상이 아님
+        assertBadRequest(BulkStatusUpdateRequest.builder()
+                .orderIds(List.of(1L))
+                .targetStatus(OrderStatus.CANCELLED)
+                .build());
+        // 한 번에 변경할 수 있는 주문 수 초과
+        assertBadRequest(BulkStatusUpdateRequest.builder()
+                .orderIds(LongStream.rangeClosed(1, 10_001).boxed().collect(Collectors.toList()))
+                .targetStatus(OrderStatus.DELIVERED)
+                .build());
+    }
+
+    @Test
+    void cancelWaitsForBulkUpdateAndSeesCommittedStatus() throws Exception {
+        OrderEntity order = saveOrder("BULK-5", OrderStatus.PROCESSING);
+        CountDownLatch bulkApplied = new CountDownLatch(1);
+        CountDownLatch commitBulk = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // 일괄 변경이 주문을 잠근 채 커밋하지 않은 상태로 대기
+            Future<?> bulk = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                orderService.updateOrderStatuses(BulkStatusUpdateRequest.builder()
+                        .orderIds(List.of(order.getId()))
+                        .targetStatus(OrderStatus.DELIVERED)
+                        .build());
+                bulkApplied.countDown();
+                try {
+                    commitBulk.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            assertThat(bulkApplied.await(5, TimeUnit.SECONDS)).isTrue();
+
+            Future<?> cancel = executor.submit(() -> orderService.cancelOrder(order.getId()));
+            Thread.sleep(200);
+            assertThat(cancel).isNotDone();
+
+            commitBulk.countDown();
+            bulk.get(5, TimeUnit.SECONDS);
+
+            // 잠금을 얻은 뒤 DELIVERED 를 보고 취소를 거절
+            assertThatThrownBy(() -> cancel.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .cause()
+                    .isInstanceOfSatisfying(ResponseStatusException.class,
+                            e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.CONFLICT));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(statusOf(order)).isEqualTo(OrderStatus.DELIVERED);
+        assertThat(eventTypes(order)).containsExactly(OrderEvent.Type.ORDER_STATUS_CHANGED.name());
+        verify(productClient, never()).releaseStock(any());
+    }
+
+    private void assertBadRequest(BulkStatusUpdateRequest request) {
+        assertThatThrownBy(() -> orderService.updateOrderStatuses(request))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+
+    private OrderEntity saveOrder(String orderNumber, OrderStatus status) {
+        OrderEntity order = OrderEntity.builder()
+                .customerId(1L)
+                .orderNumber(orderNumber)
+                .status(status)
+                .orderDate(LocalDateTime.now())
+                .build();
+        order.addOrderItem(OrderItemEntity.builder()
+                .productId(10L)
+                .productName("product-10")
+                .quantity(1)
+                .unitPrice(new BigDecimal("1000"))
+                .build());
+        return orderRepository.save(order);
+    }
+
+    private OrderStatus statusOf(OrderEntity order) {
+        return orderRepository.findById(order.getId()).orElseThrow().getStatus();
+    }
+
+    private List<String> eventTypes(OrderEntity order) {
+        return orderOutboxRepository.findAll().stream()
+                .filter(event -> event.getOrderId().equals(order.getId()))
+                .map(OrderOutboxEntity::getEventType)
+                .collect(Collectors.toList());
+    }
+}
\ No newline at end of file
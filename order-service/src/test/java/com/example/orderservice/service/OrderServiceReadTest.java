@@ -0,0 +1,121 @@
+package com.example.orderservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+import com.example.orderservice.client.CustomerClient;
+import com.example.orderservice.client.ProductClient;
+import com.example.orderservice.dto.CustomerDto;
+import com.example.orderservice.dto.OrderDto;
+import com.example.orderservice.entity.OrderEntity;
+import com.example.orderservice.entity.OrderEntity.OrderStatus;
+import com.example.orderservice.entity.OrderItemEntity;
+import com.example.orderservice.repository.OrderRepository;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 주문 조회 시 고객 서비스 호출 위치 테스트
+ * 주문을 읽는 트랜잭션이 끝난 뒤에 고객 이름을 채우므로 원격 호출 동안 DB 커넥션을 점유하지 않아야 합니다.
+ * 잘못된 페이지 커서는 400 으로 거부되어야 합니다.
+ * 조회마다 고객 서비스를 호출하도록 고객 캐시는 바로 만료시킵니다.
+ */
+@DataJpaTest(properties = "order.customer-cache.ttl-seconds=0")
+@Import(OrderServiceTestConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OrderServiceReadTest {
+
+    private static final LocalDateTime ORDER_DATE = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @MockBean
+    private ProductClient productClient;
+
+    @MockBean
+    private CustomerClient customerClient;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    private final AtomicInteger remoteCalls = new AtomicInteger();
+    private final AtomicInteger remoteCallsInTransaction = new AtomicInteger();
+
+    private OrderEntity order;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAll();
+
+        OrderEntity entity = OrderEntity.builder()
+                .customerId(1L)
+                .orderNumber("READ-1")
+                .status(OrderStatus.PROCESSING)
+                .orderDate(ORDER_DATE)
+                .build();
+        entity.addOrderItem(OrderItemEntity.builder()
+                .productId(10L)
+                .productName("product-10")
+                .quantity(2)
+                .unitPrice(new BigDecimal("1000"))
+                .build());
+        order = orderRepository.save(entity);
+
+        CustomerDto customer = CustomerDto.builder().id(1L).name("kim").build();
+        when(customerClient.getCustomer(anyLong())).thenAnswer(invocation -> {
+            recordRemoteCall();
+            return customer;
+        });
+        when(customerClient.getCustomers(anyList())).thenAnswer(invocation -> {
+            recordRemoteCall();
+            return List.of(customer);
+        });
+    }
+
+    @Test
+    void customerNamesAreFilledOutsideTransaction() {
+        assertThat(orderService.getOrderById(order.getId()).getCustomerName()).isEqualTo("kim");
+        assertThat(orderService.getOrderByOrderNumber("READ-1").getCustomerName()).isEqualTo("kim");
+        assertThat(orderService.getOrdersByCustomerId(1L)).extracting(OrderDto::getCustomerName)
+                .containsExactly("kim");
+        assertThat(orderService.getOrdersByStatus(OrderStatus.PROCESSING, null, 10).getItems())
+                .extracting(OrderDto::getCustomerName).containsExactly("kim");
+        assertThat(orderService.getOrdersByStatusAndDateRange(OrderStatus.PROCESSING, ORDER_DATE.minusDays(1),
+                ORDER_DATE.plusDays(1))).extracting(OrderDto::getCustomerName).containsExactly("kim");
+        assertThat(orderService.getAllOrders()).extracting(OrderDto::getCustomerName).containsExactly("kim");
+
+        assertThat(remoteCalls.get()).isEqualTo(6);
+        assertThat(remoteCallsInTransaction.get()).isZero();
+    }
+
+    @Test
+    void malformedCursorIsBadRequest() {
+        assertThatThrownBy(() -> orderService.getOrdersByStatus(OrderStatus.PROCESSING, "not-a-cursor", 10))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+
+    private void recordRemoteCall() {
+        remoteCalls.incrementAndGet();
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            remoteCallsInTransaction.incrementAndGet();
+        }
+    }
+}
\ No newline at end of file
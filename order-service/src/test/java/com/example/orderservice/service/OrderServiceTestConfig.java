@@ -0,0 +1,31 @@
+package com.example.orderservice.service;
+
+import com.example.orderservice.config.AsyncConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.mockito.Mockito;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.TaskScheduler;
+
+/**
+ * @DataJpaTest 에서 주문 서비스 계층을 구성하기 위한 테스트 설정
+ * 보안/디스커버리 설정 없이 서비스와 저장소만 올리며, 원격 클라이언트는 각 테스트에서 목으로 등록합니다.
+ * 아웃박스 발행, 사가 복구 같은 @Scheduled 작업은 테스트가 직접 호출하도록 스케줄러가 실행하지 않습니다.
+ */
+@TestConfiguration
+@Import({ OrderService.class, OrderLookupService.class, CustomerCacheService.class, IdempotencyService.class,
+        OrderNumberGenerator.class, OrderSagaOrchestrator.class, OrderOutboxService.class, OrderOutboxRelay.class,
+        LocalOrderEventPublisher.class, CustomerOrderSummaryService.class, AsyncConfig.class })
+public class OrderServiceTestConfig {
+
+    @Bean
+    public TaskScheduler taskScheduler() {
+        return Mockito.mock(TaskScheduler.class);
+    }
+
+    @Bean
+    public ObjectMapper objectMapper() {
+        return new ObjectMapper().findAndRegisterModules();
+    }
+}
\ No newline at end of file
@@ -1,15 +1,23 @@
 package com.example.productservice.controller;
 
+import com.example.productservice.dto.ProductBrowseResult;
+import com.example.productservice.dto.ProductDto;
+import com.example.productservice.dto.ProductPageDto;
+import com.example.productservice.dto.ProductSearchResult;
+import com.example.productservice.dto.StockReservationRequest;
 import com.example.productservice.entity.ProductEntity;
+import com.example.productservice.repository.ProductSort;
 import com.example.productservice.security.RequirePermission;
 import com.example.productservice.service.ProductService;
 import java.net.URI;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 /**
@@ -23,13 +31,39 @@ public class ProductController {
     private final ProductService productService;
 
     /**
-     * 모든 상품 목록 조회
+     * 상품 목록 조회 (커서 기반 페이지네이션, 이름/가격/ID 정렬)
+     * 응답의 nextCursor 를 같은 정렬 조건과 함께 after 로 전달하면 다음 페이지를 조회합니다.
      * 모든 사용자가 접근 가능
      */
     @GetMapping
-    public ResponseEntity<List<ProductEntity>> getAllProducts() {
-        List<ProductEntity> products = productService.getAllProducts();
-        return ResponseEntity.ok(products);
+    public ResponseEntity<ProductPageDto> getProducts(
+            @RequestParam(defaultValue = "ID") ProductSort sort,
+            @RequestParam(defaultValue = "ASC") Sort.Direction direction,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(productService.getProducts(sort, direction, after, limit));
+    }
+
+    /**
+     * 모든 상품을 NDJSON 스트림으로 내보내기 (관리자용)
+     * ADMIN 권한만 허용
+     */
+    @GetMapping(path = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @RequirePermission({ "ROLE_ADMIN" })
+    public ResponseEntity<StreamingResponseBody> exportProducts() {
+        StreamingResponseBody body = productService::exportProducts;
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    /**
+     * 여러 상품 ID로 상품 목록을 한 번에 조회 (최대 100개)
+     * 모든 사용자가 접근 가능
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<ProductDto>> getProductsByIds(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(productService.getProductsByIds(ids));
     }
 
     /**
@@ -37,31 +71,72 @@ public class ProductController {
      * 모든 사용자가 접근 가능
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ProductEntity> getProductById(@PathVariable Long id) {
-        ProductEntity product = productService.getProductById(id);
+    public ResponseEntity<ProductDto> getProductById(@PathVariable Long id) {
+        ProductDto product = productService.getProductById(id);
         return ResponseEntity.ok(product);
     }
 
     @GetMapping("/category/{category}")
-    public ResponseEntity<List<ProductEntity>> getProductsByCategory(@PathVariable String category) {
-        return ResponseEntity.ok(productService.getProductsByCategory(category));
+    public ResponseEntity<ProductPageDto> getProductsByCategory(
+            @PathVariable String category,
+            @RequestParam(defaultValue = "ID") ProductSort sort,
+            @RequestParam(defaultValue = "ASC") Sort.Direction direction,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(productService.getProductsByCategory(category, sort, direction, after, limit));
     }
 
+    /**
+     * 상품명/카테고리/설명 검색 (관련도 순, 접두어/오타 허용)
+     * 모든 사용자가 접근 가능
+     */
     @GetMapping(path = "/search", params = "name")
-    public ResponseEntity<List<ProductEntity>> searchProductsByName(@RequestParam String name) {
-        return ResponseEntity.ok(productService.searchProductsByName(name));
+    public ResponseEntity<ProductSearchResult> searchProducts(
+            @RequestParam String name,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(productService.searchProducts(name, page, size));
+    }
+
+    /**
+     * 카테고리/가격 범위/재고 조건으로 상품 둘러보기 (커서 페이지와 카테고리/가격 구간별 상품 수)
+     * 모든 사용자가 접근 가능
+     */
+    @GetMapping("/browse")
+    public ResponseEntity<ProductBrowseResult> browseProducts(
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) Double minPrice,
+            @RequestParam(required = false) Double maxPrice,
+            @RequestParam(required = false) Boolean inStock,
+            @RequestParam(defaultValue = "ID") ProductSort sort,
+            @RequestParam(defaultValue = "ASC") Sort.Direction direction,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(productService.browseProducts(category, minPrice, maxPrice, inStock,
+                sort, direction, after, limit));
     }
 
     @GetMapping(path = "/price", params = "maxPrice")
-    public ResponseEntity<List<ProductEntity>> getProductsByMaxPrice(@RequestParam Double maxPrice) {
-        return ResponseEntity.ok(productService.getProductsByMaxPrice(maxPrice));
+    public ResponseEntity<ProductPageDto> getProductsByMaxPrice(
+            @RequestParam Double maxPrice,
+            @RequestParam(defaultValue = "ID") ProductSort sort,
+            @RequestParam(defaultValue = "ASC") Sort.Direction direction,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(productService.getProductsByMaxPrice(maxPrice, sort, direction, after, limit));
     }
 
+    // 기존 동작과 같이 기본은 가격 오름차순
     @GetMapping(path = "/filter", params = { "category", "maxPrice" })
-    public ResponseEntity<List<ProductEntity>> getProductsByCategoryAndMaxPrice(
+    public ResponseEntity<ProductPageDto> getProductsByCategoryAndMaxPrice(
             @RequestParam String category,
-            @RequestParam Double maxPrice) {
-        return ResponseEntity.ok(productService.getProductsByCategoryAndMaxPrice(category, maxPrice));
+            @RequestParam Double maxPrice,
+            @RequestParam(defaultValue = "PRICE") ProductSort sort,
+            @RequestParam(defaultValue = "ASC") Sort.Direction direction,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(productService.getProductsByCategoryAndMaxPrice(category, maxPrice,
+                sort, direction, after, limit));
     }
 
     /**
@@ -84,7 +159,7 @@ public class ProductController {
     }
 
     /**
-     * 상품 정보 업데이트
+     * 상품 정보 업데이트 (요청에 포함된 필드만 변경)
      * ADMIN 또는 PRODUCT:WRITE 권한이 필요
      */
     @PutMapping(path = "/{id}", consumes = MediaType.APPLICATION_JSON_VALUE)
@@ -94,6 +169,16 @@ public class ProductController {
         return ResponseEntity.ok(updatedProduct);
     }
 
+    /**
+     * 상품 정보 부분 수정
+     * ADMIN 또는 PRODUCT:WRITE 권한이 필요
+     */
+    @PatchMapping(path = "/{id}", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @RequirePermission({ "ROLE_ADMIN", "PRODUCT:WRITE" })
+    public ResponseEntity<ProductEntity> patchProduct(@PathVariable Long id, @RequestBody ProductEntity product) {
+        return ResponseEntity.ok(productService.updateProduct(id, product));
+    }
+
     /**
      * 상품 삭제
      * ADMIN 권한만 허용
@@ -115,4 +200,25 @@ public class ProductController {
         ProductEntity product = productService.updateStock(id, quantity);
         return ResponseEntity.ok(product);
     }
+
+    /**
+     * 여러 상품의 재고를 한 번에 차감 (주문 생성 시 사용)
+     * ADMIN 또는 PRODUCT:WRITE 권한이 필요
+     */
+    @PostMapping(path = "/stock/reservations", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @RequirePermission({ "ROLE_ADMIN", "PRODUCT:WRITE" })
+    public ResponseEntity<List<ProductDto>> reserveStock(@RequestBody StockReservationRequest request) {
+        return ResponseEntity.ok(productService.reserveStock(request));
+    }
+
+    /**
+     * 여러 상품의 재고를 한 번에 복원 (주문 취소 또는 주문 저장 실패 시 사용)
+     * ADMIN 또는 PRODUCT:WRITE 권한이 필요
+     */
+    @PostMapping(path = "/stock/releases", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @RequirePermission({ "ROLE_ADMIN", "PRODUCT:WRITE" })
+    public ResponseEntity<Void> releaseStock(@RequestBody StockReservationRequest request) {
+        productService.releaseStock(request);
+        return ResponseEntity.noContent().build();
+    }
 }
\ No newline at end of file
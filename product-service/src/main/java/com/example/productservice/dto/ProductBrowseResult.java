@@ -0,0 +1,45 @@
+package com.example.productservice.dto;
+
+import com.example.productservice.entity.ProductEntity;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 둘러보기 결과 (커서 페이지와 패싯 개수)
+ * nextCursor 가 null 이면 마지막 페이지입니다.
+ * 각 패싯 개수에는 자기 차원을 제외한 조건이 적용됩니다: 카테고리 개수는 가격 범위와 재고 조건,
+ * 가격 구간 개수는 카테고리와 재고 조건을 적용합니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductBrowseResult {
+    private List<ProductEntity> items;
+    private String nextCursor;
+    private List<CategoryCount> categories;
+    private List<PriceBucketCount> priceBuckets;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CategoryCount {
+        private String category;
+        private long count;
+    }
+
+    /**
+     * 가격 구간 [from, to) 의 상품 수 (to 가 null 이면 상한 없음)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PriceBucketCount {
+        private Double from;
+        private Double to;
+        private long count;
+    }
+}
\ No newline at end of file
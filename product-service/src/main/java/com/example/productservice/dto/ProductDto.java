@@ -0,0 +1,36 @@
+package com.example.productservice.dto;
+
+import com.example.productservice.entity.ProductEntity;
+import lombok.Builder;
+import lombok.Value;
+import lombok.With;
+
+/**
+ * 상품 조회 결과 (불변)
+ * 카탈로그 캐시가 여러 요청에 같은 인스턴스를 공유하므로 변경할 수 없는 값으로 둡니다.
+ * JSON 형태는 ProductEntity 와 같습니다.
+ */
+@Value
+@Builder
+public class ProductDto {
+    Long id;
+    String name;
+    String description;
+    Double price;
+    @With
+    Integer stock;
+    String category;
+    Long version;
+
+    public static ProductDto from(ProductEntity product) {
+        return ProductDto.builder()
+                .id(product.getId())
+                .name(product.getName())
+                .description(product.getDescription())
+                .price(product.getPrice())
+                .stock(product.getStock())
+                .category(product.getCategory())
+                .version(product.getVersion())
+                .build();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.example.productservice.dto;
+
+import com.example.productservice.entity.ProductEntity;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 커서 기반 상품 목록 페이지
+ * nextCursor 가 null 이면 마지막 페이지입니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductPageDto {
+    private List<ProductEntity> items;
+    private String nextCursor;
+}
\ No newline at end of file
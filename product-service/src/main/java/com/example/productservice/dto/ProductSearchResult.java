@@ -0,0 +1,21 @@
+package com.example.productservice.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 검색 결과 페이지 (관련도 순)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSearchResult {
+    private List<ProductDto> items;
+    private long total;
+    private int page;
+    private int size;
+}
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.example.productservice.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 여러 상품의 재고를 한 번에 차감(또는 복원)하기 위한 요청
+ * orderId 가 주어지면 같은 주문의 예약/복원은 한 번만 적용됩니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockReservationRequest {
+    // 재시도 중복 제거 키 (없으면 요청마다 재고를 변경)
+    private Long orderId;
+    // 예약 기록 도입 이전에 차감된 주문의 복원 요청 (기록이 없어도 예약된 것으로 보고 한 번 복원)
+    private boolean reservedBeforeTracking;
+    private List<ReservationItem> items;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ReservationItem {
+        private Long productId;
+        private Integer quantity;
+    }
+}
\ No newline at end of file
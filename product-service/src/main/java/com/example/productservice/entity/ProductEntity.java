@@ -5,6 +5,9 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
@@ -13,8 +16,16 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
+// 커서 조회용 인덱스: 카테고리 조건 ID 순, 이름순, 가격순
+@Table(indexes = {
+        @Index(name = "idx_product_entity_category_id", columnList = "category, id"),
+        @Index(name = "idx_product_entity_name_id", columnList = "name, id"),
+        @Index(name = "idx_product_entity_price_id", columnList = "price, id")
+})
+@DynamicUpdate
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -40,6 +51,9 @@ public class ProductEntity {
 
     private String category;
 
+    @Version
+    private Long version;
+
     @Builder
     public ProductEntity(String name, String description, Double price, Integer stock, String category) {
         // 필수 필드 검증
@@ -60,6 +74,34 @@ public class ProductEntity {
         this.category = category;
     }
 
+    // 비즈니스 메서드 - 부분 수정 (null 필드는 기존 값 유지)
+    public void update(String name, String description, Double price, Integer stock, String category) {
+        if (name != null) {
+            if (name.isBlank()) {
+                throw new IllegalArgumentException("상품명은 필수입니다");
+            }
+            this.name = name;
+        }
+        if (price != null) {
+            if (price <= 0) {
+                throw new IllegalArgumentException("가격은 양수여야 합니다");
+            }
+            this.price = price;
+        }
+        if (stock != null) {
+            if (stock < 0) {
+                throw new IllegalArgumentException("재고는 0 이상이어야 합니다");
+            }
+            this.stock = stock;
+        }
+        if (description != null) {
+            this.description = description;
+        }
+        if (category != null) {
+            this.category = category;
+        }
+    }
+
     // 비즈니스 메서드 - 재고 감소
     public void decreaseStock(int quantity) {
         if (this.stock < quantity) {
@@ -0,0 +1,39 @@
+package com.example.productservice.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 재고 저널 중 DB 에 반영이 끝난 마지막 세그먼트 번호
+ *
+ * 재고 반영과 같은 트랜잭션에서 갱신하므로, 반영 직후 세그먼트 파일을 지우기 전에 중단되어도
+ * 재시작 시 같은 세그먼트를 두 번 반영하지 않습니다.
+ */
+@Entity
+@Table(name = "stock_journal_checkpoints")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StockJournalCheckpointEntity {
+
+    @Id
+    private String journalId;
+
+    private long lastSegment;
+
+    public StockJournalCheckpointEntity(String journalId) {
+        if (journalId == null || journalId.isBlank()) {
+            throw new IllegalArgumentException("저널 ID는 필수입니다");
+        }
+        this.journalId = journalId;
+    }
+
+    public void advance(long segment) {
+        if (segment > lastSegment) {
+            this.lastSegment = segment;
+        }
+    }
+}
\ No newline at end of file
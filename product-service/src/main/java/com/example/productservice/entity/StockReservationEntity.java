@@ -0,0 +1,82 @@
+package com.example.productservice.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 주문별 재고 예약 기록
+ *
+ * 재고 차감/복원과 같은 트랜잭션에서 기록되므로, 응답을 받지 못한 주문 서비스가 같은 주문 ID 로
+ * 예약이나 복원을 다시 요청해도 재고는 한 번만 변경됩니다.
+ * 예약 없이 복원 요청이 먼저 오면 RELEASED 로 기록하여 뒤늦게 도착한 예약이 적용되지 않게 합니다.
+ */
+@Entity
+@Table(name = "stock_reservations")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StockReservationEntity implements Persistable<Long> {
+
+    @Id
+    private Long orderId;
+
+    @Enumerated(EnumType.STRING)
+    private ReservationStatus status;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    // 키를 직접 할당하므로 merge 대신 persist 되도록 신규 여부를 직접 관리
+    @Transient
+    private boolean isNew = true;
+
+    public enum ReservationStatus {
+        // 재고 차감됨
+        RESERVED,
+        // 재고 복원됨 (또는 예약 전에 복원 요청됨)
+        RELEASED
+    }
+
+    public StockReservationEntity(Long orderId, ReservationStatus status) {
+        if (orderId == null) {
+            throw new IllegalArgumentException("주문 ID는 필수입니다");
+        }
+
+        this.orderId = orderId;
+        this.status = status;
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
+    }
+
+    public void release() {
+        this.status = ReservationStatus.RELEASED;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    @Override
+    public Long getId() {
+        return orderId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,78 @@
+package com.example.productservice.repository;
+
+import com.example.productservice.entity.ProductEntity;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * (정렬 값, id) 기반 키셋 페이지네이션 커서
+ *
+ * 클라이언트에는 URL-safe Base64 문자열로 전달되며, 마지막으로 받은 상품의 위치를 나타냅니다.
+ * 커서에는 정렬 기준과 방향이 함께 기록되므로 다른 정렬 기준이나 방향으로 요청하면 거부됩니다 (400).
+ */
+@Getter
+@RequiredArgsConstructor
+public class ProductCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private static final String ASC = "ASC";
+    private static final String DESC = "DESC";
+
+    private final ProductSort sort;
+    private final boolean descending;
+    // 정렬 값 (ID 정렬이면 null)
+    private final String value;
+    private final Long id;
+
+    public static ProductCursor of(ProductSort sort, boolean descending, ProductEntity product) {
+        String value = switch (sort) {
+            case ID -> null;
+            case NAME -> product.getName();
+            case PRICE -> String.valueOf(product.getPrice());
+        };
+        return new ProductCursor(sort, descending, value, product.getId());
+    }
+
+    public String encode() {
+        // 상품명에 구분자가 포함될 수 있으므로 정렬 값을 마지막에 둠
+        String raw = sort + SEPARATOR + (descending ? DESC : ASC) + SEPARATOR + id
+                + (value != null ? SEPARATOR + value : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ProductCursor decode(String cursor, ProductSort sort, boolean descending) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        ProductCursor decoded;
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                    .split("\\" + SEPARATOR, 4);
+            ProductSort cursorSort = ProductSort.valueOf(parts[0]);
+            boolean cursorDescending = switch (parts[1]) {
+                case ASC -> false;
+                case DESC -> true;
+                default -> throw new IllegalArgumentException("Unknown direction: " + parts[1]);
+            };
+            String value = cursorSort == ProductSort.ID ? null : parts[3];
+            if (cursorSort == ProductSort.PRICE) {
+                Double.parseDouble(value);
+            }
+            decoded = new ProductCursor(cursorSort, cursorDescending, value, Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다: " + cursor, e);
+        }
+        if (decoded.getSort() != sort) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "정렬 기준이 다른 커서입니다: " + cursor);
+        }
+        if (decoded.isDescending() != descending) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "정렬 방향이 다른 커서입니다: " + cursor);
+        }
+        return decoded;
+    }
+}
\ No newline at end of file
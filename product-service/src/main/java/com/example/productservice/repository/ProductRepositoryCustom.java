@@ -2,7 +2,29 @@ package com.example.productservice.repository;
 
 import com.example.productservice.entity.ProductEntity;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface ProductRepositoryCustom {
-    List<ProductEntity> findProductsByCategoryAndMaxPrice(String category, Double maxPrice);
+    /**
+     * 조건에 맞는 상품을 정렬 기준의 키셋 페이지로 조회합니다. null 인 조건은 적용하지 않습니다.
+     *
+     * @param after 이 위치 다음부터 조회 (null 이면 처음부터)
+     */
+    List<ProductEntity> findProducts(String category, Double minPrice, Double maxPrice, Boolean inStock,
+            ProductSort sort, boolean descending, ProductCursor after, int limit);
+
+    /**
+     * 모든 상품을 ID 순으로 chunkSize 건씩 나누어 consumer 에 전달합니다.
+     * 전달이 끝난 묶음은 영속성 컨텍스트에서 분리되므로 수정 용도로 사용하지 않아야 합니다.
+     */
+    void forEachProductChunk(int chunkSize, Consumer<List<ProductEntity>> consumer);
+
+    long decreaseStock(Long id, int quantity);
+
+    long increaseStock(Long id, int quantity);
+
+    /**
+     * 메모리 재고 모드의 저널 변경량을 DB 재고에 더합니다. 재고 외의 컬럼과 @Version 은 바꾸지 않습니다.
+     */
+    long addJournaledStock(Long id, int delta);
 }
\ No newline at end of file
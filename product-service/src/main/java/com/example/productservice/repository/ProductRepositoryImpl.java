@@ -2,28 +2,134 @@ package com.example.productservice.repository;
 
 import com.example.productservice.entity.ProductEntity;
 import static com.example.productservice.entity.QProductEntity.productEntity;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import java.util.List;
+import java.util.function.Consumer;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public class ProductRepositoryImpl implements ProductRepositoryCustom {
 
+    private final EntityManager entityManager;
     private final JPAQueryFactory queryFactory;
 
     public ProductRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
         this.queryFactory = new JPAQueryFactory(entityManager);
     }
 
     @Override
-    public List<ProductEntity> findProductsByCategoryAndMaxPrice(String category, Double maxPrice) {
+    public List<ProductEntity> findProducts(String category, Double minPrice, Double maxPrice, Boolean inStock,
+            ProductSort sort, boolean descending, ProductCursor after, int limit) {
         return queryFactory
                 .selectFrom(productEntity)
                 .where(
-                        productEntity.category.eq(category)
-                                .and(productEntity.price.loe(maxPrice)))
-                .orderBy(productEntity.price.asc())
+                        category != null ? productEntity.category.eq(category) : null,
+                        minPrice != null ? productEntity.price.goe(minPrice) : null,
+                        maxPrice != null ? productEntity.price.loe(maxPrice) : null,
+                        inStock == null ? null
+                                : inStock ? productEntity.stock.gt(0) : productEntity.stock.loe(0),
+                        after != null ? after(after, descending) : null)
+                .orderBy(orderBy(sort, descending))
+                .limit(limit)
                 .fetch();
     }
-}
\ No newline at end of file
+
+    @Override
+    public void forEachProductChunk(int chunkSize, Consumer<List<ProductEntity>> consumer) {
+        ProductCursor after = null;
+        while (true) {
+            List<ProductEntity> chunk = findProducts(null, null, null, null, ProductSort.ID, false, after, chunkSize);
+            if (chunk.isEmpty()) {
+                return;
+            }
+            consumer.accept(chunk);
+            // 처리한 묶음은 영속성 컨텍스트에서 분리하여 메모리에 누적되지 않도록 함
+            entityManager.clear();
+            if (chunk.size() < chunkSize) {
+                return;
+            }
+            after = ProductCursor.of(ProductSort.ID, false, chunk.get(chunk.size() - 1));
+        }
+    }
+
+    /**
+     * 커서 다음 위치 조건: (정렬 값, id) 가 커서보다 뒤인 행
+     */
+    private BooleanExpression after(ProductCursor cursor, boolean descending) {
+        Long id = cursor.getId();
+        BooleanExpression idAfter = descending ? productEntity.id.lt(id) : productEntity.id.gt(id);
+        switch (cursor.getSort()) {
+            case NAME: {
+                String name = cursor.getValue();
+                return (descending ? productEntity.name.lt(name) : productEntity.name.gt(name))
+                        .or(productEntity.name.eq(name).and(idAfter));
+            }
+            case PRICE: {
+                Double price = Double.valueOf(cursor.getValue());
+                return (descending ? productEntity.price.lt(price) : productEntity.price.gt(price))
+                        .or(productEntity.price.eq(price).and(idAfter));
+            }
+            default:
+                return idAfter;
+        }
+    }
+
+    private OrderSpecifier<?>[] orderBy(ProductSort sort, boolean descending) {
+        Order order = descending ? Order.DESC : Order.ASC;
+        OrderSpecifier<Long> id = new OrderSpecifier<>(order, productEntity.id);
+        switch (sort) {
+            case NAME:
+                return new OrderSpecifier<?>[] { new OrderSpecifier<>(order, productEntity.name), id };
+            case PRICE:
+                return new OrderSpecifier<?>[] { new OrderSpecifier<>(order, productEntity.price), id };
+            default:
+                return new OrderSpecifier<?>[] { id };
+        }
+    }
+
+    /**
+     * 재고가 충분한 경우에만 단일 UPDATE 문으로 재고를 차감합니다.
+     * 벌크 UPDATE 는 @Version 을 올리지 않으므로 직접 증가시켜, 이전 재고를 가진 상품 수정 요청이 충돌로 감지되도록 합니다.
+     *
+     * @return 갱신된 행 수 (재고 부족 또는 상품이 없으면 0)
+     */
+    @Override
+    public long decreaseStock(Long id, int quantity) {
+        return queryFactory
+                .update(productEntity)
+                .set(productEntity.stock, productEntity.stock.subtract(quantity))
+                .set(productEntity.version, productEntity.version.add(1))
+                .where(
+                        productEntity.id.eq(id)
+                                .and(productEntity.stock.goe(quantity)))
+                .execute();
+    }
+
+    @Override
+    public long increaseStock(Long id, int quantity) {
+        return queryFactory
+                .update(productEntity)
+                .set(productEntity.stock, productEntity.stock.add(quantity))
+                .set(productEntity.version, productEntity.version.add(1))
+                .where(productEntity.id.eq(id))
+                .execute();
+    }
+
+    /**
+     * 메모리 재고 모드에서는 카운터가 재고의 기준이고 관리자 수정은 DB 재고를 쓰지 않으므로,
+     * 반영 주기마다 @Version 을 올리면 상품 수정 요청만 충돌로 실패합니다. 재고 컬럼만 갱신합니다.
+     */
+    @Override
+    public long addJournaledStock(Long id, int delta) {
+        return queryFactory
+                .update(productEntity)
+                .set(productEntity.stock, productEntity.stock.add(delta))
+                .where(productEntity.id.eq(id))
+                .execute();
+    }
+}
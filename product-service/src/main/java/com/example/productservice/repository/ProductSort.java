@@ -0,0 +1,8 @@
+package com.example.productservice.repository;
+
+/**
+ * 상품 목록 정렬 기준 (값이 같으면 ID 순)
+ */
+public enum ProductSort {
+    ID, NAME, PRICE
+}
\ No newline at end of file
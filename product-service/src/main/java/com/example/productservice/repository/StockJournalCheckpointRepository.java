@@ -0,0 +1,9 @@
+package com.example.productservice.repository;
+
+import com.example.productservice.entity.StockJournalCheckpointEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface StockJournalCheckpointRepository extends JpaRepository<StockJournalCheckpointEntity, String> {
+}
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.example.productservice.repository;
+
+import com.example.productservice.entity.StockReservationEntity;
+import jakarta.persistence.LockModeType;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface StockReservationRepository extends JpaRepository<StockReservationEntity, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from StockReservationEntity r where r.orderId = :orderId")
+    Optional<StockReservationEntity> findForUpdate(@Param("orderId") Long orderId);
+}
\ No newline at end of file
@@ -0,0 +1,149 @@
+package com.example.productservice.service;
+
+import com.example.productservice.dto.ProductDto;
+import com.example.productservice.entity.ProductEntity;
+import com.example.productservice.repository.ProductRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 상품 카탈로그 로컬 캐시
+ *
+ * 상품 정보는 조회가 대부분이고 주문 항목마다 단건/일괄 조회가 발생하므로, 크기와 TTL 이 제한된
+ * 캐시에서 먼저 찾고 없는 상품만 DB 에서 읽습니다. 상품이 변경되면 트랜잭션 커밋 직후 해당 항목을
+ * 무효화하여, 커밋 전 값을 다시 읽어 캐시에 넣는 경합이 생기지 않도록 합니다.
+ * 캐시 값은 요청 간에 공유되므로 엔티티가 아닌 불변 ProductDto 로 보관합니다.
+ *
+ * 일괄 조회는 여러 상품을 한 번에 읽은 뒤 캐시에 넣으므로, 읽는 도중 무효화된 상품의 이전 값이
+ * 무효화 이후에 들어갈 수 있습니다. 이를 막기 위해 상품 ID 별 무효화 세대(generation)를 두고,
+ * 읽기 전과 세대가 달라진 상품은 캐시에 넣지 않습니다.
+ *
+ * 메모리 재고 모드에서는 DB 재고가 반영 주기만큼 늦고 반영 시 캐시를 무효화하지 않으므로,
+ * 재고 카운터가 있는 상품은 캐시 값의 재고 대신 카운터 값을 돌려줍니다.
+ *
+ * 적중/미스/제거 횟수는 cache.gets, cache.evictions 메트릭(cache=product.catalog)으로 노출됩니다.
+ */
+@Service
+public class ProductCatalogCache {
+
+    // 상품 ID 별 무효화 세대 (ID 해시로 나눈 구간 단위, 같은 구간의 다른 상품 무효화는 캐시 적재만 건너뜀)
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final ProductRepository productRepository;
+    private final Cache<Long, ProductDto> products;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    // 상품 ID → 현재 가용 재고 (메모리 재고 모드에서 카운터가 있는 상품만, 없으면 null)
+    private volatile Function<Long, Integer> liveStock = id -> null;
+
+    public ProductCatalogCache(ProductRepository productRepository, MeterRegistry meterRegistry,
+            @Value("${product.catalog-cache.maximum-size:10000}") long maximumSize,
+            @Value("${product.catalog-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.productRepository = productRepository;
+        this.products = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, products, "product.catalog");
+    }
+
+    /**
+     * 상품을 조회합니다.
+     * 존재하지 않는 상품은 캐시하지 않습니다.
+     * 단건 적재는 같은 키의 무효화와 원자적으로 처리되므로 세대 확인이 필요하지 않습니다.
+     */
+    public ProductDto getProduct(Long id) {
+        ProductDto product = products.get(id, key -> productRepository.findById(key).map(ProductDto::from).orElse(null));
+        if (product == null) {
+            throw new RuntimeException("Product not found with id: " + id);
+        }
+        return withLiveStock(product);
+    }
+
+    /**
+     * 여러 상품을 요청한 ID 순서대로 조회합니다.
+     * 존재하지 않는 상품은 결과에 포함되지 않습니다.
+     */
+    public List<ProductDto> getProducts(Collection<Long> ids) {
+        Map<Long, ProductDto> found = new HashMap<>(products.getAllPresent(ids));
+        List<Long> missing = new ArrayList<>();
+        for (Long id : new LinkedHashSet<>(ids)) {
+            if (!found.containsKey(id)) {
+                missing.add(id);
+            }
+        }
+        if (!missing.isEmpty()) {
+            found.putAll(loadProducts(missing));
+        }
+
+        List<ProductDto> result = new ArrayList<>(found.size());
+        for (Long id : new LinkedHashSet<>(ids)) {
+            ProductDto product = found.get(id);
+            if (product != null) {
+                result.add(withLiveStock(product));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 상품 변경을 캐시에 반영합니다.
+     * 트랜잭션 안에서 호출되면 커밋된 뒤에 무효화하고, 롤백되면 캐시를 그대로 둡니다.
+     */
+    public void evict(Collection<Long> ids) {
+        TransactionCallbacks.afterCommit(() -> {
+            // 진행 중인 일괄 적재가 이전 값을 넣지 않도록 세대를 먼저 올린 뒤 제거
+            ids.forEach(id -> generations.incrementAndGet(stripe(id)));
+            products.invalidateAll(ids);
+        });
+    }
+
+    public void evict(Long id) {
+        evict(List.of(id));
+    }
+
+    /**
+     * 재고 출처를 지정합니다. 메모리 재고 모드에서 재고 카운터가 등록합니다.
+     */
+    void useLiveStock(Function<Long, Integer> liveStock) {
+        this.liveStock = liveStock;
+    }
+
+    private ProductDto withLiveStock(ProductDto product) {
+        Integer live = liveStock.apply(product.getId());
+        return live != null ? product.withStock(live) : product;
+    }
+
+    private Map<Long, ProductDto> loadProducts(List<Long> ids) {
+        Map<Long, Long> generationsBeforeLoad = new HashMap<>();
+        ids.forEach(id -> generationsBeforeLoad.put(id, generations.get(stripe(id))));
+
+        Map<Long, ProductDto> loaded = new HashMap<>();
+        for (ProductEntity entity : productRepository.findAllById(ids)) {
+            ProductDto product = ProductDto.from(entity);
+            loaded.put(product.getId(), product);
+            long generation = generationsBeforeLoad.get(product.getId());
+            // 세대 확인과 적재를 같은 키의 compute 안에서 하므로, 이후의 무효화는 이 적재가 끝난 뒤에 제거함
+            products.asMap().compute(product.getId(),
+                    (id, current) -> generations.get(stripe(id)) == generation ? product : current);
+        }
+        return loaded;
+    }
+
+    private static int stripe(Long id) {
+        return Math.floorMod(Long.hashCode(id), GENERATION_STRIPES);
+    }
+}
\ No newline at end of file
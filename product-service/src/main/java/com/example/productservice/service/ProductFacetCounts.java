@@ -0,0 +1,405 @@
+package com.example.productservice.service;
+
+import com.example.productservice.dto.ProductBrowseResult.CategoryCount;
+import com.example.productservice.dto.ProductBrowseResult.PriceBucketCount;
+import com.example.productservice.entity.ProductEntity;
+import com.example.productservice.repository.ProductRepository;
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 상품 둘러보기용 패싯 개수
+ *
+ * (카테고리, 가격 구간, 재고 여부) 별 상품 수를 메모리에 두고 상품 변경 시 이전 값과 비교해 증감하므로,
+ * 패싯을 계산할 때 상품 테이블을 다시 읽지 않습니다. 다른 인스턴스의 변경은 주기적인 재구성으로 반영됩니다.
+ * 가격 범위를 지정한 카테고리 개수는 카테고리별 가격 순위 누적 트리로 구하므로 가격 종류 수만큼 순회하지 않습니다.
+ * 메모리 재고 모드에서는 DB 재고가 반영 주기만큼 늦으므로 재고 여부를 재고 카운터가 알린 값으로 판단합니다.
+ *
+ * 커밋 후 콜백은 트랜잭션이 커밋된 순서와 다르게 실행될 수 있으므로, 상품별로 반영된 @Version 값을 두고
+ * 그보다 오래된 변경은 무시합니다. 삭제된 상품은 다음 재구성까지 남겨 두어 늦게 도착한 변경이 되살리지 않습니다.
+ */
+@Service
+public class ProductFacetCounts {
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final ProductRepository productRepository;
+    private final double[] priceBoundaries;
+    private final Object rebuildLock = new Object();
+    private Counts counts;
+    // 재구성 중에 들어온 변경 (재구성된 개수에 다시 적용)
+    private List<Consumer<Counts>> pendingChanges;
+    // 상품 ID → 재고 카운터가 알린 재고 여부 (메모리 재고 모드에서 카운터가 있는 상품만, 없으면 null)
+    private volatile Function<Long, Boolean> liveInStock = id -> null;
+
+    public ProductFacetCounts(ProductRepository productRepository,
+            @Value("${product.facets.price-boundaries:10000,50000,100000,500000}") double[] priceBoundaries) {
+        this.productRepository = productRepository;
+        this.priceBoundaries = priceBoundaries.clone();
+        Arrays.sort(this.priceBoundaries);
+        this.counts = new Counts(true);
+    }
+
+    @PostConstruct
+    void init() {
+        rebuild();
+    }
+
+    /**
+     * DB 의 전체 상품으로 개수를 다시 계산한 뒤 교체합니다.
+     */
+    @Scheduled(initialDelayString = "${product.facets.rebuild-interval-ms:600000}",
+            fixedDelayString = "${product.facets.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            synchronized (this) {
+                pendingChanges = new ArrayList<>();
+            }
+            Counts rebuilt = new Counts(false);
+            try {
+                Slice<ProductEntity> slice = productRepository.findAll(
+                        PageRequest.of(0, REBUILD_BATCH_SIZE, Sort.by("id")));
+                while (true) {
+                    slice.forEach(product -> rebuilt.put(product.getId(), facet(product.getId(),
+                            product.getCategory(), product.getPrice(), product.getStock(), product.getVersion())));
+                    if (!slice.hasNext()) {
+                        break;
+                    }
+                    slice = productRepository.findAll(slice.nextPageable());
+                }
+                rebuilt.indexPrices();
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    pendingChanges = null;
+                }
+                throw e;
+            }
+
+            synchronized (this) {
+                pendingChanges.forEach(change -> change.accept(rebuilt));
+                pendingChanges = null;
+                counts = rebuilt;
+            }
+        }
+    }
+
+    /**
+     * 상품의 현재 카테고리/가격/재고를 반영합니다.
+     * 트랜잭션 안에서 호출되면 커밋된 뒤에 반영하며, 이미 더 새로운 버전이 반영되어 있으면 무시합니다.
+     * 버전은 DB 에 반영된 값이어야 하므로 flush 이후 또는 DB 에서 다시 읽은 엔티티를 전달해야 합니다.
+     */
+    public void update(ProductEntity product) {
+        Long id = product.getId();
+        String category = product.getCategory();
+        Double price = product.getPrice();
+        Integer stock = product.getStock();
+        Long version = product.getVersion();
+        TransactionCallbacks.afterCommit(
+                () -> apply(counts -> counts.put(id, facet(id, category, price, stock, version))));
+    }
+
+    /**
+     * 품절 여부가 바뀐 상품의 재고 여부를 갱신합니다 (메모리 재고 모드).
+     * 카운터 변경은 트랜잭션과 무관하게 바로 적용되므로 바로 반영합니다.
+     *
+     * @param inStock 상품 ID → 재고 카운터로 판단한 재고 여부
+     */
+    public void refreshStock(Map<Long, Boolean> inStock) {
+        if (!inStock.isEmpty()) {
+            apply(counts -> inStock.forEach(counts::restock));
+        }
+    }
+
+    /**
+     * 재고 여부 출처를 지정합니다. 메모리 재고 모드에서 재고 카운터가 등록합니다.
+     */
+    void useLiveStock(Function<Long, Boolean> liveInStock) {
+        this.liveInStock = liveInStock;
+    }
+
+    public void remove(Long id) {
+        TransactionCallbacks.afterCommit(() -> apply(counts -> counts.remove(id)));
+    }
+
+    /**
+     * 카테고리별 상품 수 (많은 순)
+     * 상품 목록과 같은 가격/재고 조건을 적용합니다.
+     *
+     * @param minPrice null 이면 하한 없음 (포함)
+     * @param maxPrice null 이면 상한 없음 (포함)
+     * @param inStock  null 이면 재고와 무관하게 집계
+     */
+    public synchronized List<CategoryCount> countByCategory(Double minPrice, Double maxPrice, Boolean inStock) {
+        List<CategoryCount> result = new ArrayList<>();
+        counts.cells.forEach((category, cells) -> {
+            long count = 0;
+            if (minPrice == null && maxPrice == null) {
+                for (int bucket = 0; bucket <= priceBoundaries.length; bucket++) {
+                    count += count(cells, bucket, inStock);
+                }
+            } else {
+                PriceIndex index = counts.priceIndexes.get(category);
+                count = index != null ? index.count(minPrice, maxPrice, inStock) : 0;
+            }
+            if (count > 0) {
+                result.add(new CategoryCount(category, count));
+            }
+        });
+        result.sort(Comparator.comparingLong(CategoryCount::getCount).reversed()
+                .thenComparing(CategoryCount::getCategory, Comparator.nullsLast(Comparator.naturalOrder())));
+        return result;
+    }
+
+    /**
+     * 가격 구간별 상품 수 (가격 오름차순, 모든 구간 포함)
+     * 상품 목록과 같은 카테고리/재고 조건을 적용합니다.
+     *
+     * @param category null 이면 전체 카테고리
+     * @param inStock  null 이면 재고와 무관하게 집계
+     */
+    public synchronized List<PriceBucketCount> countByPriceBucket(String category, Boolean inStock) {
+        long[] totals = new long[priceBoundaries.length + 1];
+        counts.cells.forEach((cellCategory, cells) -> {
+            if (category == null || category.equals(cellCategory)) {
+                for (int bucket = 0; bucket < totals.length; bucket++) {
+                    totals[bucket] += count(cells, bucket, inStock);
+                }
+            }
+        });
+
+        List<PriceBucketCount> result = new ArrayList<>(totals.length);
+        for (int bucket = 0; bucket < totals.length; bucket++) {
+            result.add(new PriceBucketCount(
+                    bucket == 0 ? 0.0 : priceBoundaries[bucket - 1],
+                    bucket == priceBoundaries.length ? null : priceBoundaries[bucket],
+                    totals[bucket]));
+        }
+        return result;
+    }
+
+    private synchronized void apply(Consumer<Counts> change) {
+        change.accept(counts);
+        if (pendingChanges != null) {
+            pendingChanges.add(change);
+        }
+    }
+
+    private Facet facet(Long id, String category, Double price, Integer stock, Long version) {
+        int bucket = Arrays.binarySearch(priceBoundaries, price);
+        // 경계값은 위 구간에 포함 ([from, to))
+        bucket = bucket >= 0 ? bucket + 1 : -bucket - 1;
+        Boolean live = liveInStock.apply(id);
+        return new Facet(category, price, bucket, live != null ? live : stock > 0,
+                version != null ? version : Long.MIN_VALUE);
+    }
+
+    private static long count(long[] cells, int bucket, Boolean inStock) {
+        if (inStock == null) {
+            return cells[bucket * 2] + cells[bucket * 2 + 1];
+        }
+        return cells[bucket * 2 + (inStock ? 1 : 0)];
+    }
+
+    private static final class Facet {
+        private final String category;
+        private final double price;
+        private final int bucket;
+        private final boolean inStock;
+        // 이 값을 읽은 상품의 @Version (늦게 도착한 이전 변경을 걸러냄)
+        private final long version;
+
+        private Facet(String category, double price, int bucket, boolean inStock, long version) {
+            this.category = category;
+            this.price = price;
+            this.bucket = bucket;
+            this.inStock = inStock;
+            this.version = version;
+        }
+
+        private int cell() {
+            return bucket * 2 + (inStock ? 1 : 0);
+        }
+    }
+
+    /**
+     * 패싯 개수 자료 구조 (ProductFacetCounts 의 잠금 안에서만 접근)
+     */
+    private final class Counts {
+        // 상품 ID → 반영된 패싯 값 (변경 시 이전 값을 빼기 위함)
+        private final Map<Long, Facet> products = new HashMap<>();
+        // 카테고리 → [가격 구간 * 2 + 재고 여부] 별 상품 수
+        private final Map<String, long[]> cells = new HashMap<>();
+        // 카테고리 → 가격 → [재고 여부] 별 상품 수 (가격 색인을 다시 만들 때 사용)
+        private final Map<String, NavigableMap<Double, long[]>> prices = new HashMap<>();
+        // 카테고리 → 가격 순위 누적 트리 (임의 가격 범위의 카테고리 개수용, 재구성 중 적재할 때는 null)
+        private Map<String, PriceIndex> priceIndexes;
+        // 삭제된 상품 ID (재구성 전까지 유지)
+        private final Set<Long> removed = new HashSet<>();
+
+        /**
+         * @param indexed false 이면 적재가 끝난 뒤 indexPrices 로 가격 색인을 한 번에 만듦
+         */
+        Counts(boolean indexed) {
+            this.priceIndexes = indexed ? new HashMap<>() : null;
+        }
+
+        void indexPrices() {
+            priceIndexes = new HashMap<>();
+            prices.forEach((category, categoryPrices) -> priceIndexes.put(category, new PriceIndex(categoryPrices)));
+        }
+
+        void put(Long id, Facet facet) {
+            Facet previous = products.get(id);
+            if (removed.contains(id) || previous != null && previous.version > facet.version) {
+                return;
+            }
+            replace(id, previous, facet);
+        }
+
+        void restock(Long id, boolean inStock) {
+            Facet previous = products.get(id);
+            if (previous != null && previous.inStock != inStock) {
+                replace(id, previous, new Facet(previous.category, previous.price, previous.bucket, inStock,
+                        previous.version));
+            }
+        }
+
+        void remove(Long id) {
+            removed.add(id);
+            Facet previous = products.remove(id);
+            if (previous != null) {
+                add(previous, -1);
+            }
+        }
+
+        private void replace(Long id, Facet previous, Facet facet) {
+            if (previous != null) {
+                add(previous, -1);
+            }
+            products.put(id, facet);
+            add(facet, 1);
+        }
+
+        private void add(Facet facet, int delta) {
+            cells.computeIfAbsent(facet.category, category -> new long[(priceBoundaries.length + 1) * 2])[facet.cell()] += delta;
+
+            NavigableMap<Double, long[]> categoryPrices = prices.computeIfAbsent(facet.category,
+                    category -> new TreeMap<>());
+            long[] priceCells = categoryPrices.computeIfAbsent(facet.price, price -> new long[2]);
+            priceCells[facet.inStock ? 1 : 0] += delta;
+            if (priceCells[0] == 0 && priceCells[1] == 0) {
+                categoryPrices.remove(facet.price);
+            }
+
+            if (priceIndexes != null) {
+                PriceIndex index = priceIndexes.get(facet.category);
+                if (index == null || !index.add(facet.price, facet.inStock, delta)) {
+                    // 색인에 없는 가격이 들어오면 그 카테고리의 색인만 다시 만듦 (상품 등록/가격 변경 시에만 발생)
+                    priceIndexes.put(facet.category, new PriceIndex(categoryPrices));
+                }
+            }
+        }
+    }
+
+    /**
+     * 한 카테고리의 가격 순위별 [재고 여부] 상품 수 누적 트리 (Fenwick tree)
+     * 가격 범위의 개수를 가격 종류 수와 관계없이 O(log n) 으로 구합니다.
+     * 가격 목록은 만들 때 고정되며, 개수가 0 이 된 가격은 다시 만들 때까지 남아 있습니다.
+     */
+    private static final class PriceIndex {
+        private final double[] prices;
+        // [재고 여부][가격 순위 + 1]
+        private final long[][] trees;
+
+        private PriceIndex(NavigableMap<Double, long[]> counts) {
+            this.prices = new double[counts.size()];
+            this.trees = new long[2][counts.size() + 1];
+            int rank = 0;
+            for (Map.Entry<Double, long[]> entry : counts.entrySet()) {
+                prices[rank] = entry.getKey();
+                trees[0][rank + 1] = entry.getValue()[0];
+                trees[1][rank + 1] = entry.getValue()[1];
+                rank++;
+            }
+            for (long[] tree : trees) {
+                for (int i = 1; i < tree.length; i++) {
+                    int parent = i + (i & -i);
+                    if (parent < tree.length) {
+                        tree[parent] += tree[i];
+                    }
+                }
+            }
+        }
+
+        /**
+         * @return 색인에 없는 가격이면 false (개수는 바뀌지 않음)
+         */
+        private boolean add(double price, boolean inStock, int delta) {
+            int rank = Arrays.binarySearch(prices, price);
+            if (rank < 0) {
+                return false;
+            }
+            long[] tree = trees[inStock ? 1 : 0];
+            for (int i = rank + 1; i < tree.length; i += i & -i) {
+                tree[i] += delta;
+            }
+            return true;
+        }
+
+        /**
+         * @param minPrice null 이면 하한 없음 (포함)
+         * @param maxPrice null 이면 상한 없음 (포함)
+         */
+        private long count(Double minPrice, Double maxPrice, Boolean inStock) {
+            int from = 0;
+            if (minPrice != null) {
+                int rank = Arrays.binarySearch(prices, minPrice);
+                from = rank >= 0 ? rank : -rank - 1;
+            }
+            int to = prices.length;
+            if (maxPrice != null) {
+                int rank = Arrays.binarySearch(prices, maxPrice);
+                to = rank >= 0 ? rank + 1 : -rank - 1;
+            }
+            if (from >= to) {
+                return 0;
+            }
+            if (inStock == null) {
+                return sum(trees[0], from, to) + sum(trees[1], from, to);
+            }
+            return sum(trees[inStock ? 1 : 0], from, to);
+        }
+
+        /**
+         * @return 가격 순위 [from, to) 의 합
+         */
+        private static long sum(long[] tree, int from, int to) {
+            return prefix(tree, to) - prefix(tree, from);
+        }
+
+        private static long prefix(long[] tree, int length) {
+            long sum = 0;
+            for (int i = length; i > 0; i -= i & -i) {
+                sum += tree[i];
+            }
+            return sum;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,388 @@
+package com.example.productservice.service;
+
+import com.example.productservice.entity.ProductEntity;
+import com.example.productservice.repository.ProductRepository;
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 상품 검색용 메모리 역색인
+ *
+ * 상품명/카테고리/설명을 단어로 나누어 단어별 상품 목록을 유지하고, 단어의 2-gram 색인으로
+ * 단어 중간 일치와 오타(편집 거리 1~2)를 찾습니다. 검색 비용은 전체 상품 수가 아니라
+ * 질의 단어와 일치하는 상품 수에 비례합니다.
+ *
+ * 이 인스턴스의 상품 변경은 커밋 직후 반영되고, 다른 인스턴스의 변경은 주기적인 재구성으로 반영됩니다.
+ * 커밋 후 콜백은 커밋 순서와 다르게 실행될 수 있으므로 ProductFacetCounts 와 같이 상품별로 반영된 @Version 보다
+ * 오래된 변경은 무시하고, 삭제된 상품은 다음 재구성까지 남겨 두어 늦게 도착한 변경이 되살리지 않습니다.
+ */
+@Slf4j
+@Service
+public class ProductSearchIndex {
+
+    private static final Pattern TOKEN_DELIMITER = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    // 필드별 가중치
+    private static final float NAME_WEIGHT = 3f;
+    private static final float CATEGORY_WEIGHT = 2f;
+    private static final float DESCRIPTION_WEIGHT = 1f;
+
+    // 일치 방식별 점수 비율
+    private static final float EXACT_MATCH = 1f;
+    private static final float PREFIX_MATCH = 0.8f;
+    private static final float INFIX_MATCH = 0.6f;
+    private static final float FUZZY_MATCH = 0.4f;
+
+    // 질의 단어 하나가 확장될 수 있는 최대 색인 단어 수
+    private static final int MAX_EXPANSIONS = 64;
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    // 점수 내림차순, 같은 점수는 상품 ID 오름차순
+    private static final Comparator<Map.Entry<Long, Float>> RANKING = Map.Entry.<Long, Float>comparingByValue()
+            .reversed()
+            .thenComparing(Map.Entry.comparingByKey());
+
+    private final ProductRepository productRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Index index = new Index();
+    // 재구성 중에 들어온 변경 (재구성된 색인에 다시 적용)
+    private List<Consumer<Index>> pendingChanges;
+
+    public ProductSearchIndex(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Hits {
+        private final long total;
+        private final List<Long> productIds;
+    }
+
+    @PostConstruct
+    void init() {
+        rebuild();
+    }
+
+    /**
+     * DB 의 전체 상품으로 색인을 다시 만든 뒤 교체합니다.
+     */
+    @Scheduled(initialDelayString = "${product.search.rebuild-interval-ms:600000}",
+            fixedDelayString = "${product.search.rebuild-interval-ms:600000}")
+    public synchronized void rebuild() {
+        withWriteLock(() -> pendingChanges = new ArrayList<>());
+        Index rebuilt = new Index();
+        try {
+            Slice<ProductEntity> slice = productRepository.findAll(
+                    PageRequest.of(0, REBUILD_BATCH_SIZE, Sort.by("id")));
+            while (true) {
+                slice.forEach(product -> rebuilt.add(product.getId(), version(product), terms(product)));
+                if (!slice.hasNext()) {
+                    break;
+                }
+                slice = productRepository.findAll(slice.nextPageable());
+            }
+        } catch (RuntimeException e) {
+            withWriteLock(() -> pendingChanges = null);
+            throw e;
+        }
+
+        withWriteLock(() -> {
+            pendingChanges.forEach(change -> change.accept(rebuilt));
+            pendingChanges = null;
+            index = rebuilt;
+        });
+        log.debug("상품 검색 색인 재구성: 상품 {}건, 단어 {}개", rebuilt.documents.size(), rebuilt.postings.size());
+    }
+
+    /**
+     * 상품을 색인에 추가하거나 갱신합니다.
+     * 트랜잭션 안에서 호출되면 커밋된 뒤에 반영하며, 이미 더 새로운 버전이 반영되어 있거나 삭제된 상품이면 무시합니다.
+     * 버전은 DB 에 반영된 값이어야 하므로 flush 이후 또는 DB 에서 다시 읽은 엔티티를 전달해야 합니다.
+     */
+    public void index(ProductEntity product) {
+        Long id = product.getId();
+        long version = version(product);
+        Map<String, Float> terms = terms(product);
+        TransactionCallbacks.afterCommit(() -> apply(index -> index.add(id, version, terms)));
+    }
+
+    public void remove(Long id) {
+        TransactionCallbacks.afterCommit(() -> apply(index -> index.remove(id)));
+    }
+
+    /**
+     * 검색어와 일치하는 상품 ID 를 관련도 순으로 조회합니다.
+     * 질의 단어마다 정확히 일치, 접두어, 단어 중간 일치, 오타 순으로 낮은 점수를 주고,
+     * 더 많은 질의 단어와 일치하는 상품일수록 높은 순위가 됩니다.
+     *
+     * @param offset 건너뛸 결과 수
+     * @param limit  최대 결과 수
+     */
+    public Hits search(String query, int offset, int limit) {
+        Set<String> tokens = new LinkedHashSet<>(tokenize(query));
+        if (tokens.isEmpty()) {
+            return new Hits(0, List.of());
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Float> scores = new HashMap<>();
+            Map<Long, Integer> matchedTokens = new HashMap<>();
+            int documentCount = index.documents.size();
+
+            for (String token : tokens) {
+                Map<Long, Float> tokenScores = new HashMap<>();
+                expand(token).forEach((term, match) -> {
+                    Map<Long, Float> postings = index.postings.get(term);
+                    float idf = (float) Math.log(1 + (double) documentCount / postings.size());
+                    postings.forEach((id, weight) -> tokenScores.merge(id,
+                            match * idf * (float) Math.sqrt(weight), Math::max));
+                });
+                tokenScores.forEach((id, score) -> {
+                    scores.merge(id, score, Float::sum);
+                    matchedTokens.merge(id, 1, Integer::sum);
+                });
+            }
+
+            if (offset >= scores.size()) {
+                return new Hits(scores.size(), List.of());
+            }
+
+            // 필요한 만큼(offset + limit)만 남기는 힙으로 상위 결과를 고름
+            int wanted = offset + limit;
+            PriorityQueue<Map.Entry<Long, Float>> top = new PriorityQueue<>(wanted + 1, RANKING.reversed());
+            scores.forEach((id, score) -> {
+                top.add(Map.entry(id, score * matchedTokens.get(id) / tokens.size()));
+                if (top.size() > wanted) {
+                    top.poll();
+                }
+            });
+
+            List<Map.Entry<Long, Float>> ranked = new ArrayList<>(top);
+            ranked.sort(RANKING);
+            List<Long> productIds = new ArrayList<>(limit);
+            for (int i = offset; i < ranked.size(); i++) {
+                productIds.add(ranked.get(i).getKey());
+            }
+            return new Hits(scores.size(), productIds);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 질의 단어와 일치하는 색인 단어와 일치 방식별 점수 비율
+     */
+    private Map<String, Float> expand(String token) {
+        Map<String, Float> terms = new HashMap<>();
+        if (index.postings.containsKey(token)) {
+            terms.put(token, EXACT_MATCH);
+        }
+        for (String term : index.postings.subMap(token, false, token + Character.MAX_VALUE, false).keySet()) {
+            if (terms.size() >= MAX_EXPANSIONS) {
+                return terms;
+            }
+            terms.put(term, PREFIX_MATCH);
+        }
+
+        Set<String> tokenGrams = bigrams(token);
+        if (tokenGrams.isEmpty()) {
+            return terms;
+        }
+        Map<String, Integer> sharedGrams = new HashMap<>();
+        for (String gram : tokenGrams) {
+            for (String term : index.grams.getOrDefault(gram, Set.of())) {
+                sharedGrams.merge(term, 1, Integer::sum);
+            }
+        }
+
+        // 오타 허용 거리: 4자 이상 1, 8자 이상 2
+        int maxEdits = token.length() >= 8 ? 2 : token.length() >= 4 ? 1 : 0;
+        for (Map.Entry<String, Integer> candidate : sharedGrams.entrySet()) {
+            if (terms.size() >= MAX_EXPANSIONS) {
+                break;
+            }
+            String term = candidate.getKey();
+            int shared = candidate.getValue();
+            if (terms.containsKey(term)) {
+                continue;
+            }
+            if (shared == tokenGrams.size() && term.contains(token)) {
+                terms.put(term, INFIX_MATCH);
+            } else if (maxEdits > 0
+                    // 편집 한 번은 2-gram 을 최대 2개까지 바꾸므로 공유 2-gram 이 적으면 계산하지 않음
+                    && shared >= tokenGrams.size() - 2 * maxEdits
+                    && Math.abs(term.length() - token.length()) <= maxEdits
+                    && editDistance(token, term, maxEdits) <= maxEdits) {
+                terms.put(term, FUZZY_MATCH);
+            }
+        }
+        return terms;
+    }
+
+    private void apply(Consumer<Index> change) {
+        withWriteLock(() -> {
+            change.accept(index);
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+        });
+    }
+
+    private void withWriteLock(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static long version(ProductEntity product) {
+        return product.getVersion() != null ? product.getVersion() : Long.MIN_VALUE;
+    }
+
+    private static Map<String, Float> terms(ProductEntity product) {
+        Map<String, Float> terms = new HashMap<>();
+        addTerms(terms, product.getName(), NAME_WEIGHT);
+        addTerms(terms, product.getCategory(), CATEGORY_WEIGHT);
+        addTerms(terms, product.getDescription(), DESCRIPTION_WEIGHT);
+        return terms;
+    }
+
+    private static void addTerms(Map<String, Float> terms, String text, float weight) {
+        for (String token : tokenize(text)) {
+            terms.merge(token, weight, Float::sum);
+        }
+    }
+
+    private static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String token : TOKEN_DELIMITER.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static Set<String> bigrams(String term) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 2 <= term.length(); i++) {
+            grams.add(term.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    /**
+     * 편집 거리 (maxEdits 를 넘으면 계산을 멈추고 maxEdits + 1 반환)
+     */
+    private static int editDistance(String a, String b, int maxEdits) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > maxEdits) {
+                return maxEdits + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    /**
+     * 색인 자료 구조 (읽기/쓰기 잠금 안에서만 접근)
+     */
+    private static final class Index {
+        // 단어 → (상품 ID → 필드 가중치 합)
+        private final NavigableMap<String, Map<Long, Float>> postings = new TreeMap<>();
+        // 2-gram → 그 2-gram 을 포함한 단어
+        private final Map<String, Set<String>> grams = new HashMap<>();
+        // 상품 ID → 색인된 단어 (갱신/삭제 시 제거용)
+        private final Map<Long, Set<String>> documents = new HashMap<>();
+        // 상품 ID → 반영된 @Version (늦게 도착한 이전 변경을 걸러냄)
+        private final Map<Long, Long> versions = new HashMap<>();
+        // 삭제된 상품 ID (재구성 전까지 유지)
+        private final Set<Long> removed = new HashSet<>();
+
+        void add(Long id, long version, Map<String, Float> terms) {
+            Long previous = versions.get(id);
+            if (removed.contains(id) || previous != null && previous > version) {
+                return;
+            }
+            unindex(id);
+            versions.put(id, version);
+            documents.put(id, new HashSet<>(terms.keySet()));
+            terms.forEach((term, weight) -> postings.computeIfAbsent(term, key -> {
+                bigrams(key).forEach(gram -> grams.computeIfAbsent(gram, g -> new HashSet<>()).add(key));
+                return new HashMap<>();
+            }).put(id, weight));
+        }
+
+        void remove(Long id) {
+            removed.add(id);
+            versions.remove(id);
+            unindex(id);
+        }
+
+        private void unindex(Long id) {
+            Set<String> terms = documents.remove(id);
+            if (terms == null) {
+                return;
+            }
+            for (String term : terms) {
+                Map<Long, Float> products = postings.get(term);
+                products.remove(id);
+                if (products.isEmpty()) {
+                    postings.remove(term);
+                    for (String gram : bigrams(term)) {
+                        Set<String> gramTerms = grams.get(gram);
+                        gramTerms.remove(term);
+                        if (gramTerms.isEmpty()) {
+                            grams.remove(gram);
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -1,100 +1,446 @@
 package com.example.productservice.service;
 
+import com.example.productservice.dto.ProductBrowseResult;
+import com.example.productservice.dto.ProductDto;
+import com.example.productservice.dto.ProductPageDto;
+import com.example.productservice.dto.ProductSearchResult;
+import com.example.productservice.dto.StockReservationRequest;
 import com.example.productservice.entity.ProductEntity;
+import com.example.productservice.entity.StockReservationEntity;
+import com.example.productservice.entity.StockReservationEntity.ReservationStatus;
+import com.example.productservice.repository.ProductCursor;
 import com.example.productservice.repository.ProductRepository;
+import com.example.productservice.repository.ProductSort;
+import com.example.productservice.repository.StockReservationRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
 
 @Service
 @RequiredArgsConstructor
 public class ProductService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int EXPORT_CHUNK_SIZE = 500;
+
     private final ProductRepository productRepository;
+    private final ProductCatalogCache productCatalogCache;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductFacetCounts productFacetCounts;
+    private final StockCounterService stockCounterService;
+    private final StockReservationRepository stockReservationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
 
+    /**
+     * 전체 상품을 정렬 기준의 커서 페이지로 조회합니다.
+     *
+     * @param after 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param limit 페이지 크기 (최대 MAX_PAGE_SIZE)
+     */
     @Transactional(readOnly = true)
-    public List<ProductEntity> getAllProducts() {
-        return productRepository.findAll();
+    public ProductPageDto getProducts(ProductSort sort, Sort.Direction direction, String after, int limit) {
+        return findPage(null, null, null, null, sort, direction, after, limit);
     }
 
-    @Transactional(readOnly = true)
-    public ProductEntity getProductById(Long id) {
-        return productRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Product not found with id: " + id));
+    /**
+     * 상품을 캐시에서 조회합니다.
+     */
+    public ProductDto getProductById(Long id) {
+        return productCatalogCache.getProduct(id);
+    }
+
+    /**
+     * 여러 상품을 한 번에 조회합니다. 한 번에 MAX_PAGE_SIZE 개까지 요청할 수 있습니다.
+     */
+    public List<ProductDto> getProductsByIds(List<Long> ids) {
+        if (ids.size() > MAX_PAGE_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "At most " + MAX_PAGE_SIZE + " product ids can be requested at once");
+        }
+        return productCatalogCache.getProducts(ids);
     }
 
     @Transactional(readOnly = true)
-    public List<ProductEntity> getProductsByCategory(String category) {
-        return productRepository.findByCategory(category);
+    public ProductPageDto getProductsByCategory(String category, ProductSort sort, Sort.Direction direction,
+            String after, int limit) {
+        return findPage(category, null, null, null, sort, direction, after, limit);
+    }
+
+    /**
+     * 상품명/카테고리/설명에서 검색어와 일치하는 상품을 관련도 순으로 조회합니다.
+     * 접두어, 단어 중간 일치와 오타도 찾으며, DB 를 스캔하지 않고 메모리 색인을 사용합니다.
+     *
+     * @param page 0부터 시작하는 페이지 번호
+     * @param size 페이지 크기 (최대 MAX_PAGE_SIZE)
+     */
+    public ProductSearchResult searchProducts(String query, int page, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        int pageNumber = Math.max(0, page);
+        int offset = (int) Math.min((long) pageNumber * pageSize, Integer.MAX_VALUE);
+
+        ProductSearchIndex.Hits hits = productSearchIndex.search(query, offset, pageSize);
+        return ProductSearchResult.builder()
+                .items(productCatalogCache.getProducts(hits.getProductIds()))
+                .total(hits.getTotal())
+                .page(pageNumber)
+                .size(pageSize)
+                .build();
     }
 
+    /**
+     * 카테고리/가격 범위/재고 조건을 조합하여 상품을 커서 페이지로 조회하고,
+     * 카테고리와 가격 구간별 상품 수(패싯)를 함께 반환합니다.
+     * 패싯은 메모리에 유지되는 개수에서 계산하므로 상품 테이블을 다시 집계하지 않습니다.
+     *
+     * @param after 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param limit 페이지 크기 (최대 MAX_PAGE_SIZE)
+     */
     @Transactional(readOnly = true)
-    public List<ProductEntity> searchProductsByName(String name) {
-        return productRepository.findByNameContaining(name);
+    public ProductBrowseResult browseProducts(String category, Double minPrice, Double maxPrice, Boolean inStock,
+            ProductSort sort, Sort.Direction direction, String after, int limit) {
+        ProductPageDto page = findPage(category, minPrice, maxPrice, inStock, sort, direction, after, limit);
+
+        return ProductBrowseResult.builder()
+                .items(page.getItems())
+                .nextCursor(page.getNextCursor())
+                .categories(productFacetCounts.countByCategory(minPrice, maxPrice, inStock))
+                .priceBuckets(productFacetCounts.countByPriceBucket(category, inStock))
+                .build();
     }
 
     @Transactional(readOnly = true)
-    public List<ProductEntity> getProductsByMaxPrice(Double maxPrice) {
-        return productRepository.findByPriceLessThanEqual(maxPrice);
+    public ProductPageDto getProductsByMaxPrice(Double maxPrice, ProductSort sort, Sort.Direction direction,
+            String after, int limit) {
+        return findPage(null, null, maxPrice, null, sort, direction, after, limit);
     }
 
     @Transactional(readOnly = true)
-    public List<ProductEntity> getProductsByCategoryAndMaxPrice(String category, Double maxPrice) {
-        return productRepository.findProductsByCategoryAndMaxPrice(category, maxPrice);
+    public ProductPageDto getProductsByCategoryAndMaxPrice(String category, Double maxPrice, ProductSort sort,
+            Sort.Direction direction, String after, int limit) {
+        return findPage(category, null, maxPrice, null, sort, direction, after, limit);
+    }
+
+    /**
+     * 모든 상품을 NDJSON(한 줄에 하나의 JSON) 형식으로 출력 스트림에 기록합니다.
+     * EXPORT_CHUNK_SIZE 건씩 ID 순으로 읽어 바로 기록하므로 전체 목록을 메모리에 올리지 않습니다.
+     * 트랜잭션 없이 묶음마다 조회하므로, 느린 클라이언트에 기록하는 동안 DB 커넥션을 점유하지 않습니다.
+     *
+     * @param outputStream 응답 출력 스트림
+     */
+    public void exportProducts(OutputStream outputStream) {
+        productRepository.forEachProductChunk(EXPORT_CHUNK_SIZE, products -> {
+            try {
+                for (ProductEntity product : products) {
+                    outputStream.write(objectMapper.writeValueAsBytes(product));
+                    outputStream.write('\n');
+                }
+                outputStream.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write product export", e);
+            }
+        });
     }
 
     @Transactional
     public ProductEntity createProduct(ProductEntity product) {
-        return productRepository.save(product);
+        ProductEntity savedProduct = productRepository.save(product);
+        productCatalogCache.evict(savedProduct.getId());
+        productSearchIndex.index(savedProduct);
+        productFacetCounts.update(savedProduct);
+        return savedProduct;
     }
 
+    /**
+     * 상품 정보를 부분 수정합니다.
+     * 관리 중인 엔티티의 변경 감지로 변경된 컬럼만 UPDATE 하며,
+     * 요청에 version 이 없으면 428, 현재 버전과 다르거나 동시 수정이 감지되면 409 를 반환합니다.
+     * 재고 예약/복원도 버전을 올리므로, 조회 이후 재고가 바뀌었다면 이전 재고로 덮어쓰지 않고 409 가 됩니다.
+     * 메모리 재고 모드에서는 재고를 카운터에서 변경하고 다음 반영 주기에 DB 에 저장하며, 이 반영은 버전을 올리지 않습니다.
+     */
     @Transactional
     public ProductEntity updateProduct(Long id, ProductEntity product) {
-        // 기존 상품 조회
-        ProductEntity existingProduct = getProductById(id);
-
-        // 새로운 불변 객체 생성 (Builder 패턴 사용)
-        ProductEntity updatedProduct = ProductEntity.builder()
-                .name(product.getName() != null ? product.getName() : existingProduct.getName())
-                .description(
-                        product.getDescription() != null ? product.getDescription() : existingProduct.getDescription())
-                .price(product.getPrice() != null ? product.getPrice() : existingProduct.getPrice())
-                .stock(product.getStock() != null ? product.getStock() : existingProduct.getStock())
-                .category(product.getCategory() != null ? product.getCategory() : existingProduct.getCategory())
-                .build();
+        if (product.getVersion() == null) {
+            throw new ResponseStatusException(HttpStatus.PRECONDITION_REQUIRED,
+                    "version is required to update product: " + id);
+        }
+
+        ProductEntity existingProduct = findProduct(id);
+        if (!product.getVersion().equals(existingProduct.getVersion())) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Product was modified concurrently: " + id);
+        }
+
+        boolean stockInMemory = stockCounterService.isEnabled() && product.getStock() != null;
+        existingProduct.update(
+                product.getName(),
+                product.getDescription(),
+                product.getPrice(),
+                stockInMemory ? null : product.getStock(),
+                product.getCategory());
 
-        // ID 값 설정을 위한 리플렉션 사용 대신 새 객체로 저장
-        productRepository.delete(existingProduct);
-        return productRepository.save(updatedProduct);
+        try {
+            productRepository.flush();
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Product was modified concurrently: " + id, e);
+        }
+        if (stockInMemory) {
+            // 수정이 롤백되면 카운터 재고도 바꾸지 않음
+            Integer stock = product.getStock();
+            TransactionCallbacks.afterCommit(() -> stockCounterService.setStock(id, stock));
+        }
+        productCatalogCache.evict(id);
+        productSearchIndex.index(existingProduct);
+        productFacetCounts.update(existingProduct);
+        return existingProduct;
     }
 
     @Transactional
     public void deleteProduct(Long id) {
-        ProductEntity product = getProductById(id);
+        ProductEntity product = findProduct(id);
         productRepository.delete(product);
+        productCatalogCache.evict(id);
+        stockCounterService.remove(id);
+        productSearchIndex.remove(id);
+        productFacetCounts.remove(id);
     }
 
-    @Transactional
+    /**
+     * 재고를 원자적으로 변경합니다.
+     * 양수는 차감, 음수는 복원(증가)으로 처리합니다.
+     * 메모리 재고 모드에서는 반환되는 상품의 재고가 마지막으로 DB 에 반영된 값입니다.
+     */
     public ProductEntity updateStock(Long id, Integer quantity) {
-        ProductEntity existingProduct = getProductById(id);
+        if (stockCounterService.isEnabled()) {
+            if (quantity > 0) {
+                stockCounterService.reserve(Map.of(id, quantity));
+            } else if (quantity < 0) {
+                stockCounterService.release(Map.of(id, -quantity));
+            }
+            return findProduct(id);
+        }
+
+        return transactionTemplate.execute(status -> {
+            applyStockChange(id, quantity);
+            productCatalogCache.evict(id);
+            ProductEntity product = findProduct(id);
+            productFacetCounts.update(product);
+            return product;
+        });
+    }
+
+    /**
+     * 여러 상품의 재고를 하나의 트랜잭션에서 차감합니다.
+     * 하나라도 실패하면 전체 예약이 롤백됩니다.
+     * 메모리 재고 모드에서는 DB 를 거치지 않고 카운터에서 차감합니다.
+     *
+     * orderId 가 주어지면 예약 기록을 재고 차감과 같은 트랜잭션에 남기므로,
+     * 같은 주문의 예약을 다시 요청하면 재고를 다시 차감하지 않고 현재 상품 정보를 반환합니다.
+     *
+     * @param request 상품별 차감 수량 목록
+     * @return 재고가 차감된 상품 목록
+     * @throws ResponseStatusException 재고가 부족하거나 이미 복원된 주문이면 409, 상품이 없으면 404
+     */
+    public List<ProductDto> reserveStock(StockReservationRequest request) {
+        Map<Long, Integer> quantities = toQuantities(request, "예약 수량은 1 이상이어야 합니다");
+        Long orderId = request.getOrderId();
+
+        if (orderId == null && stockCounterService.isEnabled()) {
+            stockCounterService.reserve(quantities);
+            return productCatalogCache.getProducts(quantities.keySet());
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (orderId != null && !recordReservation(orderId)) {
+                    return;
+                }
+                if (stockCounterService.isEnabled()) {
+                    stockCounterService.reserve(quantities);
+                    // 예약 기록이 커밋되지 않으면 카운터에서 차감한 재고도 되돌림
+                    TransactionCallbacks.afterRollback(() -> stockCounterService.release(quantities));
+                    return;
+                }
+                quantities.forEach(this::applyStockChange);
+                productCatalogCache.evict(quantities.keySet());
+                productRepository.findAllById(quantities.keySet()).forEach(productFacetCounts::update);
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 같은 주문의 요청이 동시에 들어와 다른 요청이 먼저 기록한 경우
+            if (orderId == null) {
+                throw e;
+            }
+            if (findReservationStatus(orderId) != ReservationStatus.RESERVED) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT,
+                        "Stock reservation was already released for order: " + orderId, e);
+            }
+        }
 
-        // 재고 검증
-        if (existingProduct.getStock() < quantity) {
-            throw new RuntimeException("Not enough stock for product: " + id);
+        return productCatalogCache.getProducts(quantities.keySet());
+    }
+
+    /**
+     * 여러 상품의 재고를 하나의 트랜잭션에서 복원합니다.
+     * 예약한 주문이 취소되거나 주문 저장에 실패했을 때 사용합니다.
+     *
+     * orderId 가 주어지면 그 주문으로 예약된 재고만 한 번 복원합니다.
+     * 예약 기록이 없으면 재고를 바꾸지 않고 복원 완료로 기록하므로, 응답을 받지 못한 예약이 뒤늦게 도착해도 적용되지 않습니다.
+     * 단, reservedBeforeTracking 이 표시된 요청은 예약 기록 도입 이전에 차감된 주문이므로 기록이 없어도 한 번 복원합니다.
+     *
+     * @param request 상품별 복원 수량 목록
+     */
+    public void releaseStock(StockReservationRequest request) {
+        Map<Long, Integer> quantities = toQuantities(request, "복원 수량은 1 이상이어야 합니다");
+        Long orderId = request.getOrderId();
+        boolean reservedBeforeTracking = request.isReservedBeforeTracking();
+
+        if (orderId == null && stockCounterService.isEnabled()) {
+            stockCounterService.release(quantities);
+            return;
+        }
+
+        try {
+            applyRelease(orderId, reservedBeforeTracking, quantities);
+        } catch (DataIntegrityViolationException e) {
+            if (orderId == null) {
+                throw e;
+            }
+            // 예약 기록이 없던 주문에 예약 또는 복원이 동시에 기록된 경우, 기록된 상태를 기준으로 다시 처리
+            applyRelease(orderId, reservedBeforeTracking, quantities);
+        }
+    }
+
+    private void applyRelease(Long orderId, boolean reservedBeforeTracking, Map<Long, Integer> quantities) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (orderId != null && !recordRelease(orderId, reservedBeforeTracking)) {
+                return;
+            }
+            if (stockCounterService.isEnabled()) {
+                TransactionCallbacks.afterCommit(() -> stockCounterService.release(quantities));
+                return;
+            }
+            quantities.forEach((productId, quantity) -> applyStockChange(productId, -quantity));
+            productCatalogCache.evict(quantities.keySet());
+            // 품절이던 상품이 다시 재고를 갖게 될 수 있으므로 패싯 개수 갱신
+            productRepository.findAllById(quantities.keySet()).forEach(productFacetCounts::update);
+        });
+    }
+
+    /**
+     * 주문의 예약을 기록합니다.
+     *
+     * @return 재고를 차감해야 하면 true, 이미 예약된 주문이면 false
+     */
+    private boolean recordReservation(Long orderId) {
+        StockReservationEntity reservation = stockReservationRepository.findForUpdate(orderId).orElse(null);
+        if (reservation == null) {
+            stockReservationRepository.saveAndFlush(new StockReservationEntity(orderId, ReservationStatus.RESERVED));
+            return true;
+        }
+        if (reservation.getStatus() == ReservationStatus.RELEASED) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "Stock reservation was already released for order: " + orderId);
+        }
+        return false;
+    }
+
+    /**
+     * 주문의 복원을 기록합니다.
+     *
+     * @param reservedBeforeTracking 예약 기록 없이 차감된 주문이면 true (기록이 없어도 예약된 것으로 봄)
+     * @return 재고를 복원해야 하면 true, 예약된 적이 없거나 이미 복원된 주문이면 false
+     */
+    private boolean recordRelease(Long orderId, boolean reservedBeforeTracking) {
+        StockReservationEntity reservation = stockReservationRepository.findForUpdate(orderId).orElse(null);
+        if (reservation == null) {
+            stockReservationRepository.saveAndFlush(new StockReservationEntity(orderId, ReservationStatus.RELEASED));
+            return reservedBeforeTracking;
         }
+        if (reservation.getStatus() == ReservationStatus.RELEASED) {
+            return false;
+        }
+        reservation.release();
+        return true;
+    }
 
-        // 새 객체 생성
-        ProductEntity updatedProduct = ProductEntity.builder()
-                .name(existingProduct.getName())
-                .description(existingProduct.getDescription())
-                .price(existingProduct.getPrice())
-                .stock(existingProduct.getStock() - quantity)
-                .category(existingProduct.getCategory())
+    private ReservationStatus findReservationStatus(Long orderId) {
+        return stockReservationRepository.findById(orderId)
+                .map(StockReservationEntity::getStatus)
+                .orElse(null);
+    }
+
+    /**
+     * 같은 상품이 여러 번 포함된 경우 수량을 합산하고,
+     * 동시 예약 간 교착을 피하기 위해 상품 ID 순서로 정렬합니다.
+     */
+    private Map<Long, Integer> toQuantities(StockReservationRequest request, String invalidQuantityMessage) {
+        Map<Long, Integer> quantities = request.getItems().stream()
+                .collect(Collectors.toMap(
+                        StockReservationRequest.ReservationItem::getProductId,
+                        StockReservationRequest.ReservationItem::getQuantity,
+                        Integer::sum,
+                        TreeMap::new));
+
+        quantities.values().forEach(quantity -> {
+            if (quantity == null || quantity <= 0) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, invalidQuantityMessage);
+            }
+        });
+        return quantities;
+    }
+
+    /**
+     * 조건에 맞는 상품을 (정렬 값, id) 키셋으로 한 페이지 조회합니다.
+     * 페이지 크기는 1 ~ MAX_PAGE_SIZE 로 제한하며, 앞 페이지를 건너뛰지 않으므로 뒤 페이지도 인덱스 범위 조회로 처리됩니다.
+     */
+    private ProductPageDto findPage(String category, Double minPrice, Double maxPrice, Boolean inStock,
+            ProductSort sort, Sort.Direction direction, String after, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<ProductEntity> products = productRepository.findProducts(category, minPrice, maxPrice, inStock,
+                sort, direction.isDescending(), ProductCursor.decode(after, sort, direction.isDescending()),
+                pageSize + 1);
+        String nextCursor = null;
+        if (products.size() > pageSize) {
+            products = products.subList(0, pageSize);
+            nextCursor = ProductCursor.of(sort, direction.isDescending(), products.get(pageSize - 1)).encode();
+        }
+
+        return ProductPageDto.builder()
+                .items(products)
+                .nextCursor(nextCursor)
                 .build();
+    }
 
-        // 상품 업데이트
-        productRepository.delete(existingProduct);
-        return productRepository.save(updatedProduct);
+    private ProductEntity findProduct(Long id) {
+        return productRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Product not found with id: " + id));
+    }
+
+    private void applyStockChange(Long id, int quantity) {
+        long updated = quantity >= 0
+                ? productRepository.decreaseStock(id, quantity)
+                : productRepository.increaseStock(id, -quantity);
+
+        if (updated == 0) {
+            if (!productRepository.existsById(id)) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Product not found with id: " + id);
+            }
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Not enough stock for product: " + id);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,320 @@
+package com.example.productservice.service;
+
+import com.example.productservice.entity.ProductEntity;
+import com.example.productservice.entity.StockJournalCheckpointEntity;
+import com.example.productservice.repository.ProductRepository;
+import com.example.productservice.repository.StockJournalCheckpointRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 메모리 재고 모드 (product.stock.in-memory.enabled=true)
+ *
+ * 상품별 가용 재고를 {@link StripedStockCounter} 에 두고 예약/복원을 메모리에서 처리하므로,
+ * 인기 상품의 재고 차감이 DB 행 잠금에서 직렬화되지 않습니다. 변경량은 로컬 저널에 먼저 기록되고,
+ * 반영 주기마다 상품별로 합산되어 한 트랜잭션에서 ProductEntity.stock 에 반영됩니다.
+ *
+ * 변경으로 상품의 품절 여부가 바뀌면 상품 ID 만 기록해 두고, 패싯 갱신은 별도 주기 작업이 모아서 처리합니다.
+ * 예약 경로는 패싯 잠금을 기다리지 않습니다.
+ *
+ * DB 반영은 재고 컬럼만 바꾸고 @Version 을 올리지 않으므로 관리자 상품 수정과 충돌하지 않으며,
+ * 카탈로그 캐시도 무효화하지 않습니다. 캐시 조회의 재고는 카운터 값으로 채워집니다.
+ *
+ * 비정상 종료 후 재시작하면 아직 반영되지 않은 저널 세그먼트를 먼저 DB 에 반영한 뒤 카운터를 다시 만듭니다.
+ * 카운터는 인스턴스 메모리에 있으므로 이 모드는 상품 서비스 인스턴스가 하나일 때만 사용해야 합니다.
+ */
+@Slf4j
+@Service
+public class StockCounterService {
+
+    private final ProductRepository productRepository;
+    private final StockJournalCheckpointRepository checkpointRepository;
+    private final ProductCatalogCache productCatalogCache;
+    private final ProductFacetCounts productFacetCounts;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int stripes;
+    private final String journalId;
+    private final StockJournal journal;
+    private final ConcurrentMap<Long, StripedStockCounter> counters = new ConcurrentHashMap<>();
+    // 품절 여부가 패싯에 반영된 값과 달라진 상품 ID (패싯 갱신 주기에 비움)
+    private final Set<Long> stockStatusChanged = ConcurrentHashMap.newKeySet();
+    private final Object flushLock = new Object();
+
+    public StockCounterService(ProductRepository productRepository,
+            StockJournalCheckpointRepository checkpointRepository,
+            ProductCatalogCache productCatalogCache,
+            ProductFacetCounts productFacetCounts,
+            TransactionTemplate transactionTemplate,
+            @Value("${product.stock.in-memory.enabled:false}") boolean enabled,
+            @Value("${product.stock.in-memory.stripes:8}") int stripes,
+            @Value("${product.stock.in-memory.journal-id:product-service}") String journalId,
+            @Value("${product.stock.in-memory.journal-dir:./data/stock-journal}") String journalDir,
+            @Value("${product.stock.in-memory.journal-fsync:true}") boolean journalFsync) {
+        this.productRepository = productRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.productCatalogCache = productCatalogCache;
+        this.productFacetCounts = productFacetCounts;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.stripes = stripes;
+        this.journalId = journalId;
+        this.journal = new StockJournal(Path.of(journalDir), journalFsync);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 이전 실행에서 반영하지 못한 저널을 DB 에 반영한 뒤 새 저널 세그먼트를 엽니다.
+     */
+    @PostConstruct
+    void recover() {
+        if (!enabled) {
+            return;
+        }
+        productFacetCounts.useLiveStock(this::publishedInStock);
+        productCatalogCache.useLiveStock(this::availableStock);
+        long lastSegment = applyClosedSegments();
+        journal.open(lastSegment);
+        log.info("메모리 재고 모드 시작: 저널 세그먼트 {}까지 반영됨", lastSegment);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (!enabled) {
+            return;
+        }
+        flush();
+        journal.close();
+    }
+
+    /**
+     * 여러 상품의 재고를 차감합니다.
+     * 하나라도 부족하면 이미 차감한 상품을 되돌리고 실패합니다.
+     *
+     * @param quantities 상품별 차감 수량 (1 이상)
+     */
+    public void reserve(Map<Long, Integer> quantities) {
+        List<StripedStockCounter> taken = new ArrayList<>(quantities.size());
+        Map<Long, Long> deltas = new LinkedHashMap<>();
+        try {
+            for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+                StripedStockCounter counter = counter(entry.getKey());
+                if (!counter.tryTake(entry.getValue())) {
+                    throw new ResponseStatusException(HttpStatus.CONFLICT,
+                            "Not enough stock for product: " + entry.getKey());
+                }
+                taken.add(counter);
+                deltas.put(entry.getKey(), -(long) entry.getValue());
+            }
+            journal.append(deltas);
+        } catch (RuntimeException e) {
+            int i = 0;
+            for (Long delta : deltas.values()) {
+                taken.get(i++).put(-delta);
+            }
+            throw e;
+        }
+        int i = 0;
+        for (Long productId : deltas.keySet()) {
+            markIfStockStatusChanged(productId, taken.get(i++));
+        }
+    }
+
+    /**
+     * 여러 상품의 재고를 복원합니다.
+     *
+     * @param quantities 상품별 복원 수량 (1 이상)
+     */
+    public void release(Map<Long, Integer> quantities) {
+        Map<Long, StripedStockCounter> targets = new LinkedHashMap<>();
+        Map<Long, Long> deltas = new LinkedHashMap<>();
+        quantities.forEach((productId, quantity) -> {
+            targets.put(productId, counter(productId));
+            deltas.put(productId, (long) quantity);
+        });
+
+        // 저널에 기록된 뒤에만 예약 가능한 재고로 돌려놓음
+        journal.append(deltas);
+        targets.forEach((productId, counter) -> {
+            counter.put(deltas.get(productId));
+            markIfStockStatusChanged(productId, counter);
+        });
+    }
+
+    /**
+     * 재고를 지정한 값으로 맞춥니다.
+     * 동시에 진행 중인 예약이 있으면 그 예약을 반영한 뒤의 재고를 기준으로 차이만큼 변경합니다.
+     */
+    public void setStock(Long productId, int stock) {
+        if (stock < 0) {
+            throw new IllegalArgumentException("재고는 0 이상이어야 합니다");
+        }
+        StripedStockCounter counter = counter(productId);
+        while (true) {
+            long delta = stock - counter.sum();
+            if (delta >= 0) {
+                journal.append(Map.of(productId, delta));
+                counter.put(delta);
+                markIfStockStatusChanged(productId, counter);
+                return;
+            }
+            if (counter.tryTake(-delta)) {
+                try {
+                    journal.append(Map.of(productId, delta));
+                } catch (RuntimeException e) {
+                    counter.put(-delta);
+                    throw e;
+                }
+                markIfStockStatusChanged(productId, counter);
+                return;
+            }
+        }
+    }
+
+    /**
+     * 삭제된 상품의 카운터를 버립니다.
+     * 트랜잭션 안에서 호출되면 커밋된 뒤에 버리므로, 삭제가 롤백되어도 반영 전 변경량이 사라지지 않습니다.
+     */
+    public void remove(Long productId) {
+        TransactionCallbacks.afterCommit(() -> counters.remove(productId));
+    }
+
+    /**
+     * 닫힌 저널 세그먼트의 변경량을 DB 에 반영합니다.
+     * 실패하면 세그먼트를 남겨 두고 다음 주기에 함께 반영합니다.
+     */
+    @Scheduled(fixedDelayString = "${product.stock.in-memory.flush-interval-ms:200}")
+    public void flush() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            synchronized (flushLock) {
+                journal.rotate();
+                applyClosedSegments();
+            }
+        } catch (RuntimeException e) {
+            log.warn("재고 저널 반영 실패, 다음 주기에 재시도합니다", e);
+        }
+    }
+
+    /**
+     * 품절 여부가 바뀐 상품의 패싯 개수를 갱신합니다.
+     */
+    @Scheduled(fixedDelayString = "${product.stock.in-memory.facet-refresh-interval-ms:100}")
+    public void refreshFacets() {
+        if (!enabled || stockStatusChanged.isEmpty()) {
+            return;
+        }
+        Map<Long, Boolean> inStock = new HashMap<>();
+        for (Long productId : stockStatusChanged) {
+            // 제거한 뒤 기록하므로, 그 사이의 변경은 다시 표시되어 다음 주기에 반영됨
+            stockStatusChanged.remove(productId);
+            StripedStockCounter counter = counters.get(productId);
+            if (counter != null) {
+                inStock.put(productId, counter.publishStockStatus());
+            }
+        }
+        productFacetCounts.refreshStock(inStock);
+    }
+
+    /**
+     * @return DB 에 반영된 마지막 세그먼트 번호
+     */
+    private long applyClosedSegments() {
+        Map<Long, Map<Long, Long>> segments = new TreeMap<>();
+        try {
+            for (Long segment : journal.closedSegments()) {
+                Map<Long, Long> deltas = new TreeMap<>();
+                journal.readInto(segment, deltas);
+                segments.put(segment, deltas);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read stock journal", e);
+        }
+
+        Long lastSegment = transactionTemplate.execute(status -> {
+            StockJournalCheckpointEntity checkpoint = checkpointRepository.findById(journalId)
+                    .orElseGet(() -> checkpointRepository.save(new StockJournalCheckpointEntity(journalId)));
+
+            // 이미 반영된 세그먼트는 건너뛰고, 상품 ID 순서로 갱신하여 동시 갱신과의 교착을 피함
+            Map<Long, Long> deltas = new TreeMap<>();
+            segments.forEach((segment, segmentDeltas) -> {
+                if (segment > checkpoint.getLastSegment()) {
+                    segmentDeltas.forEach((productId, delta) -> deltas.merge(productId, delta, Long::sum));
+                }
+            });
+            deltas.forEach((productId, delta) -> {
+                if (delta != 0) {
+                    productRepository.addJournaledStock(productId, Math.toIntExact(delta));
+                }
+            });
+
+            segments.keySet().forEach(checkpoint::advance);
+            return checkpoint.getLastSegment();
+        });
+
+        try {
+            for (Long segment : segments.keySet()) {
+                journal.delete(segment);
+            }
+        } catch (IOException e) {
+            // 반영 여부는 체크포인트로 판단하므로 남은 파일은 다음 주기에 다시 삭제됨
+            log.warn("반영된 재고 저널 세그먼트 삭제 실패", e);
+        }
+        return lastSegment;
+    }
+
+    /**
+     * @return 카운터가 있는 상품의 가용 재고, 아직 카운터를 만들지 않은 상품은 null (DB 재고가 최신)
+     */
+    private Integer availableStock(Long productId) {
+        StripedStockCounter counter = counters.get(productId);
+        return counter != null ? Math.toIntExact(counter.sum()) : null;
+    }
+
+    /**
+     * @return 카운터가 있는 상품의 패싯에 반영할 재고 여부, 아직 카운터를 만들지 않은 상품은 null (DB 재고가 최신)
+     */
+    private Boolean publishedInStock(Long productId) {
+        StripedStockCounter counter = counters.get(productId);
+        return counter != null ? counter.publishedInStock() : null;
+    }
+
+    private void markIfStockStatusChanged(Long productId, StripedStockCounter counter) {
+        if (counter.stockStatusChanged()) {
+            stockStatusChanged.add(productId);
+        }
+    }
+
+    private StripedStockCounter counter(Long productId) {
+        return counters.computeIfAbsent(productId, id -> {
+            ProductEntity product = productRepository.findById(id)
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
+                            "Product not found with id: " + id));
+            return new StripedStockCounter(stripes, product.getStock());
+        });
+    }
+}
\ No newline at end of file
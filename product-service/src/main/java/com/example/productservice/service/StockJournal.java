@@ -0,0 +1,174 @@
+package com.example.productservice.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 메모리 재고 변경분을 기록하는 추가 전용(append-only) 로컬 저널
+ *
+ * 재고 변경마다 (상품 ID, 변경량) 16바이트 레코드를 현재 세그먼트 파일에 씁니다. OS 에 바로 쓰므로
+ * 프로세스가 비정상 종료되어도 기록은 남으며, 반영 주기마다 세그먼트를 닫고 새 세그먼트로 넘어갑니다.
+ * 닫힌 세그먼트는 DB 에 반영된 뒤 삭제됩니다.
+ */
+final class StockJournal {
+
+    private static final Pattern SEGMENT_NAME = Pattern.compile("stock-(\\d{19})\\.journal");
+    private static final int RECORD_SIZE = Long.BYTES * 2;
+
+    private final Path directory;
+    private final boolean fsync;
+    private final ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE * 64);
+
+    private FileChannel channel;
+    private long segment;
+    private long size;
+    private boolean dirty;
+
+    StockJournal(Path directory, boolean fsync) {
+        this.directory = directory;
+        this.fsync = fsync;
+    }
+
+    /**
+     * 기존 세그먼트 이후 번호로 새 세그먼트를 엽니다.
+     *
+     * @param minSegment 이미 반영된 마지막 세그먼트 번호
+     */
+    synchronized void open(long minSegment) {
+        try {
+            Files.createDirectories(directory);
+            long last = closedSegments().stream().mapToLong(Long::longValue).max().orElse(0);
+            openSegment(Math.max(last, minSegment) + 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open stock journal: " + directory, e);
+        }
+    }
+
+    /**
+     * 여러 상품의 재고 변경량을 기록합니다.
+     * 쓰기에 실패하면 이번 호출에서 쓴 부분을 잘라내므로 전부 기록되거나 전혀 기록되지 않습니다.
+     */
+    synchronized void append(Map<Long, Long> deltas) {
+        long start = size;
+        try {
+            buffer.clear();
+            for (Map.Entry<Long, Long> delta : deltas.entrySet()) {
+                if (!buffer.hasRemaining()) {
+                    write();
+                }
+                buffer.putLong(delta.getKey()).putLong(delta.getValue());
+            }
+            write();
+            dirty = true;
+        } catch (IOException e) {
+            try {
+                channel.truncate(start);
+                size = start;
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw new UncheckedIOException("Failed to write stock journal: " + directory, e);
+        }
+    }
+
+    /**
+     * 기록이 있으면 현재 세그먼트를 닫고 다음 세그먼트로 넘어갑니다.
+     */
+    synchronized void rotate() {
+        if (!dirty) {
+            return;
+        }
+        try {
+            if (fsync) {
+                channel.force(false);
+            }
+            channel.close();
+            openSegment(segment + 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to rotate stock journal: " + directory, e);
+        }
+    }
+
+    synchronized void close() {
+        try {
+            channel.close();
+            if (!dirty) {
+                Files.deleteIfExists(segmentPath(segment));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close stock journal: " + directory, e);
+        }
+    }
+
+    /**
+     * 현재 쓰고 있는 세그먼트를 제외한 세그먼트 번호 (오름차순)
+     * 처음 시작하여 저널 디렉터리가 아직 없으면 빈 목록입니다.
+     */
+    List<Long> closedSegments() throws IOException {
+        List<Long> segments = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return segments;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(file -> {
+                Matcher matcher = SEGMENT_NAME.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    segments.add(Long.parseLong(matcher.group(1)));
+                }
+            });
+        }
+        synchronized (this) {
+            if (channel != null && channel.isOpen()) {
+                segments.remove(Long.valueOf(segment));
+            }
+        }
+        segments.sort(null);
+        return segments;
+    }
+
+    /**
+     * 세그먼트의 변경량을 상품별로 합산합니다.
+     * 비정상 종료로 마지막 레코드가 잘린 경우 그 레코드는 무시합니다.
+     */
+    void readInto(long segment, Map<Long, Long> deltas) throws IOException {
+        ByteBuffer data = ByteBuffer.wrap(Files.readAllBytes(segmentPath(segment)));
+        while (data.remaining() >= RECORD_SIZE) {
+            deltas.merge(data.getLong(), data.getLong(), Long::sum);
+        }
+    }
+
+    void delete(long segment) throws IOException {
+        Files.deleteIfExists(segmentPath(segment));
+    }
+
+    private void openSegment(long next) throws IOException {
+        this.channel = FileChannel.open(segmentPath(next),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        this.segment = next;
+        this.size = channel.size();
+        this.dirty = false;
+    }
+
+    private void write() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            size += channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private Path segmentPath(long segment) {
+        return directory.resolve(String.format("stock-%019d.journal", segment));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,136 @@
+package com.example.productservice.service;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 한 상품의 가용 재고를 여러 칸(stripe)에 나누어 보관하는 잠금 없는 카운터
+ *
+ * 인기 상품에 예약이 몰려도 스레드마다 다른 칸에서 CAS 로 차감하므로 하나의 값에 경합이 집중되지 않습니다.
+ * 한 칸의 재고가 모자라면 다른 칸에서 나누어 가져오며, 전체 합계가 부족할 때만 예약이 실패합니다.
+ */
+final class StripedStockCounter {
+
+    // 칸마다 캐시 라인(64바이트)을 따로 쓰도록 long 8개 간격으로 배치
+    private static final int PADDING = 8;
+
+    // 다른 예약이 잠시 나누어 가져간 재고 때문에 부족해 보이는 경우 다시 시도할 횟수
+    private static final int MAX_GATHER_ATTEMPTS = 3;
+
+    private final AtomicLongArray cells;
+    private final int mask;
+    // 패싯에 마지막으로 반영한 재고 여부 (publishStockStatus 만 기록)
+    private volatile boolean publishedInStock;
+
+    /**
+     * @param stripes 칸 수 (2의 거듭제곱으로 올림)
+     * @param initial 초기 재고
+     */
+    StripedStockCounter(int stripes, long initial) {
+        int size = stripes <= 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        this.cells = new AtomicLongArray(size * PADDING);
+        this.mask = size - 1;
+
+        long share = initial / size;
+        for (int i = 0; i < size; i++) {
+            cells.set(i * PADDING, share);
+        }
+        cells.addAndGet(0, initial - share * size);
+        this.publishedInStock = initial > 0;
+    }
+
+    /**
+     * 재고를 차감합니다.
+     *
+     * @return 전체 재고가 부족하면 false (재고는 변하지 않음)
+     */
+    boolean tryTake(long quantity) {
+        int start = ThreadLocalRandom.current().nextInt(mask + 1);
+
+        // 한 칸에서 모두 가져올 수 있으면 CAS 한 번으로 끝남
+        for (int i = 0; i <= mask; i++) {
+            if (takeFromCell((start + i) & mask, quantity, false) == quantity) {
+                return true;
+            }
+        }
+
+        for (int attempt = 0; attempt < MAX_GATHER_ATTEMPTS; attempt++) {
+            long taken = 0;
+            for (int i = 0; i <= mask && taken < quantity; i++) {
+                taken += takeFromCell((start + i) & mask, quantity - taken, true);
+            }
+            if (taken == quantity) {
+                return true;
+            }
+            put(taken);
+            if (sum() < quantity) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 재고를 되돌리거나 늘립니다.
+     */
+    void put(long quantity) {
+        if (quantity != 0) {
+            cells.addAndGet(ThreadLocalRandom.current().nextInt(mask + 1) * PADDING, quantity);
+        }
+    }
+
+    /**
+     * 현재 가용 재고 합계 (동시 변경 중에는 근삿값)
+     */
+    long sum() {
+        long sum = 0;
+        for (int i = 0; i <= mask; i++) {
+            sum += cells.get(i * PADDING);
+        }
+        return sum;
+    }
+
+    boolean publishedInStock() {
+        return publishedInStock;
+    }
+
+    /**
+     * @return 현재 재고 여부가 패싯에 마지막으로 반영한 값과 다르면 true
+     */
+    boolean stockStatusChanged() {
+        return (sum() > 0) != publishedInStock;
+    }
+
+    /**
+     * 현재 재고 여부를 패싯에 반영할 값으로 기록합니다.
+     * 기록하는 사이에 바뀌었으면 다시 읽으므로, 이후의 변경은 stockStatusChanged 로 감지됩니다.
+     *
+     * @return 기록한 재고 여부
+     */
+    boolean publishStockStatus() {
+        boolean inStock;
+        do {
+            inStock = sum() > 0;
+            publishedInStock = inStock;
+        } while ((sum() > 0) != inStock);
+        return inStock;
+    }
+
+    /**
+     * @param partial true 이면 칸에 남은 만큼만 가져옴
+     * @return 실제로 가져온 수량
+     */
+    private long takeFromCell(int cell, long quantity, boolean partial) {
+        int index = cell * PADDING;
+        while (true) {
+            long current = cells.get(index);
+            long taken = Math.min(current, quantity);
+            if (taken <= 0 || (!partial && taken < quantity)) {
+                return 0;
+            }
+            if (cells.compareAndSet(index, current, current - taken)) {
+                return taken;
+            }
+        }
+    }
+}
\ No newline at end of file
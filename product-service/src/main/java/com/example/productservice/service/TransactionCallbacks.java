@@ -0,0 +1,43 @@
+package com.example.productservice.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 이후에 반영해야 하는 메모리 상태(캐시, 검색 색인, 재고 카운터) 변경을 등록합니다.
+ */
+final class TransactionCallbacks {
+
+    private TransactionCallbacks() {
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋된 뒤에 실행하고 롤백되면 실행하지 않으며, 트랜잭션 밖이면 바로 실행합니다.
+     */
+    static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 트랜잭션이 롤백되면 실행합니다. 이미 적용한 메모리 변경을 되돌릴 때 사용하며, 트랜잭션 안에서만 호출해야 합니다.
+     */
+    static void afterRollback(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    action.run();
+                }
+            }
+        });
+    }
+}
\ No newline at end of file
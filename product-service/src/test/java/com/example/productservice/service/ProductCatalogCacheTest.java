@@ -0,0 +1,68 @@
+package com.example.productservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.productservice.dto.ProductDto;
+import com.example.productservice.entity.ProductEntity;
+import com.example.productservice.repository.ProductRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 상품 카탈로그 캐시 일괄 적재 테스트
+ * 일괄 조회가 DB 를 읽는 도중 상품이 무효화되면, 읽어 온 이전 값은 캐시에 남지 않아야 합니다.
+ */
+class ProductCatalogCacheTest {
+
+    private ProductRepository productRepository;
+    private ProductCatalogCache productCatalogCache;
+
+    @BeforeEach
+    void setUp() {
+        productRepository = mock(ProductRepository.class);
+        productCatalogCache = new ProductCatalogCache(productRepository, new SimpleMeterRegistry(), 100, 60);
+    }
+
+    @Test
+    void bulkLoadDoesNotCacheValueInvalidatedDuringLoad() {
+        ProductEntity before = product(1L, 10);
+        ProductEntity after = product(1L, 7);
+        when(productRepository.findAllById(anyIterable()))
+                .thenAnswer(invocation -> {
+                    // 이전 값을 읽은 뒤, 반환하기 전에 다른 트랜잭션의 재고 변경이 커밋되어 무효화됨
+                    productCatalogCache.evict(1L);
+                    return List.of(before);
+                })
+                .thenReturn(List.of(after));
+
+        assertThat(productCatalogCache.getProducts(List.of(1L))).extracting(ProductDto::getStock).containsExactly(10);
+        assertThat(productCatalogCache.getProducts(List.of(1L))).extracting(ProductDto::getStock).containsExactly(7);
+        verify(productRepository, times(2)).findAllById(anyIterable());
+    }
+
+    @Test
+    void bulkLoadCachesUnchangedProductsInRequestOrder() {
+        when(productRepository.findAllById(anyIterable())).thenReturn(List.of(product(1L, 5), product(2L, 6)));
+
+        List<ProductDto> first = productCatalogCache.getProducts(List.of(2L, 1L, 3L));
+        List<ProductDto> second = productCatalogCache.getProducts(List.of(1L, 2L));
+
+        assertThat(first).extracting(ProductDto::getId).containsExactly(2L, 1L);
+        assertThat(second).extracting(ProductDto::getId).containsExactly(1L, 2L);
+        verify(productRepository, times(1)).findAllById(anyIterable());
+    }
+
+    private ProductEntity product(Long id, int stock) {
+        ProductEntity product = ProductEntity.builder().name("product-" + id).price(100.0).stock(stock).build();
+        ReflectionTestUtils.setField(product, "id", id);
+        return product;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,102 @@
+package com.example.productservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.example.productservice.dto.ProductBrowseResult.CategoryCount;
+import com.example.productservice.dto.ProductBrowseResult.PriceBucketCount;
+import com.example.productservice.entity.ProductEntity;
+import com.example.productservice.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 상품 둘러보기 패싯 개수 테스트
+ * 각 패싯은 다른 차원의 조건을 적용하고 가격이 바뀐 상품도 가격 범위 개수에 맞게 반영해야 하며, 커밋 후 반영이 순서와 다르게 도착해도 오래된 값으로 되돌아가지 않아야 합니다.
+ */
+class ProductFacetCountsTest {
+
+    private ProductFacetCounts productFacetCounts;
+
+    @BeforeEach
+    void setUp() {
+        productFacetCounts = new ProductFacetCounts(mock(ProductRepository.class), new double[] { 10000, 50000 });
+    }
+
+    @Test
+    void categoryCountsApplyPriceRangeAndStock() {
+        productFacetCounts.update(product(1L, "book", 5000.0, 3, 0L));
+        productFacetCounts.update(product(2L, "book", 20000.0, 0, 0L));
+        productFacetCounts.update(product(3L, "book", 30000.0, 5, 0L));
+        productFacetCounts.update(product(4L, "toy", 30000.0, 5, 0L));
+        productFacetCounts.update(product(5L, "toy", 80000.0, 5, 0L));
+
+        assertThat(productFacetCounts.countByCategory(20000.0, 30000.0, null))
+                .containsExactly(new CategoryCount("book", 2), new CategoryCount("toy", 1));
+        assertThat(productFacetCounts.countByCategory(20000.0, 30000.0, true))
+                .containsExactly(new CategoryCount("book", 1), new CategoryCount("toy", 1));
+        assertThat(productFacetCounts.countByCategory(null, 10000.0, null))
+                .containsExactly(new CategoryCount("book", 1));
+        assertThat(productFacetCounts.countByCategory(50000.0, null, true))
+                .containsExactly(new CategoryCount("toy", 1));
+        assertThat(productFacetCounts.countByCategory(null, null, null))
+                .containsExactly(new CategoryCount("book", 3), new CategoryCount("toy", 2));
+
+        assertThat(productFacetCounts.countByPriceBucket("book", true))
+                .extracting(PriceBucketCount::getCount)
+                .containsExactly(1L, 1L, 0L);
+    }
+
+    @Test
+    void categoryCountsFollowPriceChanges() {
+        productFacetCounts.update(product(1L, "book", 5000.0, 3, 1L));
+        productFacetCounts.update(product(2L, "book", 7000.0, 0, 1L));
+        // 가격 색인에 없던 가격으로 바뀐 상품
+        productFacetCounts.update(product(1L, "book", 60000.0, 3, 2L));
+
+        assertThat(productFacetCounts.countByCategory(null, 10000.0, null))
+                .containsExactly(new CategoryCount("book", 1));
+        assertThat(productFacetCounts.countByCategory(50000.0, 70000.0, true))
+                .containsExactly(new CategoryCount("book", 1));
+        assertThat(productFacetCounts.countByCategory(7000.0, 7000.0, false))
+                .containsExactly(new CategoryCount("book", 1));
+        assertThat(productFacetCounts.countByCategory(8000.0, 7000.0, null)).isEmpty();
+        assertThat(productFacetCounts.countByCategory(5000.0, 5000.0, null)).isEmpty();
+    }
+
+    @Test
+    void olderVersionArrivingLateIsIgnored() {
+        ProductEntity older = product(1L, "book", 5000.0, 3, 1L);
+        ProductEntity newer = product(1L, "toy", 20000.0, 0, 2L);
+
+        // 나중에 커밋된 변경의 커밋 후 반영이 먼저 실행된 경우
+        productFacetCounts.update(newer);
+        productFacetCounts.update(older);
+
+        assertThat(productFacetCounts.countByCategory(null, null, null))
+                .containsExactly(new CategoryCount("toy", 1));
+        assertThat(productFacetCounts.countByCategory(null, null, true)).isEmpty();
+    }
+
+    @Test
+    void removedProductIsNotRestoredByLateUpdate() {
+        productFacetCounts.update(product(1L, "book", 5000.0, 3, 1L));
+        productFacetCounts.remove(1L);
+        productFacetCounts.update(product(1L, "book", 5000.0, 2, 2L));
+
+        assertThat(productFacetCounts.countByCategory(null, null, null)).isEmpty();
+    }
+
+    private static ProductEntity product(Long id, String category, double price, int stock, Long version) {
+        ProductEntity product = ProductEntity.builder()
+                .name("product-" + id)
+                .price(price)
+                .stock(stock)
+                .category(category)
+                .build();
+        ReflectionTestUtils.setField(product, "id", id);
+        ReflectionTestUtils.setField(product, "version", version);
+        return product;
+    }
+}
\ No newline at end of file
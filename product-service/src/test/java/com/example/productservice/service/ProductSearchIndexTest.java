@@ -0,0 +1,124 @@
+package com.example.productservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.example.productservice.entity.ProductEntity;
+import com.example.productservice.repository.ProductRepository;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 상품 검색 색인 테스트
+ * 관련도 순위, 접두어/단어 중간/오타 일치, 페이지 나누기를 확인하고,
+ * 커밋 후 반영이 순서와 다르게 도착하거나 삭제 뒤에 도착해도 오래된 값이 검색되지 않아야 합니다.
+ */
+class ProductSearchIndexTest {
+
+    private ProductRepository productRepository;
+    private ProductSearchIndex productSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        productRepository = mock(ProductRepository.class);
+        productSearchIndex = new ProductSearchIndex(productRepository);
+    }
+
+    @Test
+    void moreMatchedTermsAndNameMatchesRankHigher() {
+        indexCatalog();
+
+        ProductSearchIndex.Hits hits = productSearchIndex.search("wireless mouse", 0, 10);
+
+        assertThat(hits.getTotal()).isEqualTo(3);
+        assertThat(hits.getProductIds()).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void prefixInfixAndTypoMatchesAreFound() {
+        indexCatalog();
+
+        assertThat(productSearchIndex.search("keyb", 0, 10).getProductIds()).containsExactly(3L);
+        assertThat(productSearchIndex.search("board", 0, 10).getProductIds()).containsExactly(3L);
+        assertThat(productSearchIndex.search("mouze", 0, 10).getProductIds()).containsExactlyInAnyOrder(1L, 2L);
+        // 3자 이하 단어는 오타를 허용하지 않음
+        assertThat(productSearchIndex.search("pat", 0, 10).getTotal()).isZero();
+    }
+
+    @Test
+    void resultsArePaged() {
+        indexCatalog();
+
+        ProductSearchIndex.Hits second = productSearchIndex.search("wireless mouse", 1, 1);
+        ProductSearchIndex.Hits beyond = productSearchIndex.search("wireless mouse", 3, 10);
+
+        assertThat(second.getTotal()).isEqualTo(3);
+        assertThat(second.getProductIds()).containsExactly(2L);
+        assertThat(beyond.getTotal()).isEqualTo(3);
+        assertThat(beyond.getProductIds()).isEmpty();
+    }
+
+    @Test
+    void updateReplacesIndexedTerms() {
+        productSearchIndex.index(product(10L, "alpha", 1L));
+        productSearchIndex.index(product(10L, "beta", 2L));
+
+        assertThat(productSearchIndex.search("alpha", 0, 10).getTotal()).isZero();
+        assertThat(productSearchIndex.search("beta", 0, 10).getProductIds()).containsExactly(10L);
+    }
+
+    @Test
+    void olderVersionArrivingLateIsIgnored() {
+        // 나중에 커밋된 변경의 커밋 후 반영이 먼저 실행된 경우
+        productSearchIndex.index(product(10L, "beta", 2L));
+        productSearchIndex.index(product(10L, "alpha", 1L));
+
+        assertThat(productSearchIndex.search("alpha", 0, 10).getTotal()).isZero();
+        assertThat(productSearchIndex.search("beta", 0, 10).getProductIds()).containsExactly(10L);
+    }
+
+    @Test
+    void removedProductIsNotRestoredByLateUpdateUntilRebuild() {
+        productSearchIndex.index(product(10L, "alpha", 1L));
+        productSearchIndex.remove(10L);
+        productSearchIndex.index(product(10L, "alpha", 2L));
+
+        assertThat(productSearchIndex.search("alpha", 0, 10).getTotal()).isZero();
+
+        // 재구성은 DB 상태로 다시 만들므로 삭제 기록도 비워짐
+        when(productRepository.findAll(any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(product(11L, "alpha", 0L))));
+        productSearchIndex.rebuild();
+
+        assertThat(productSearchIndex.search("alpha", 0, 10).getProductIds()).containsExactly(11L);
+    }
+
+    private void indexCatalog() {
+        productSearchIndex.index(product(1L, "Wireless Mouse", "electronics", "compact", 0L));
+        productSearchIndex.index(product(2L, "Mouse Pad", "accessories", "for wireless mouse", 0L));
+        productSearchIndex.index(product(3L, "Keyboard", "electronics", "wireless keyboard", 0L));
+    }
+
+    private static ProductEntity product(Long id, String name, Long version) {
+        return product(id, name, "misc", null, version);
+    }
+
+    private static ProductEntity product(Long id, String name, String category, String description, Long version) {
+        ProductEntity product = ProductEntity.builder()
+                .name(name)
+                .description(description)
+                .price(1000.0)
+                .stock(1)
+                .category(category)
+                .build();
+        ReflectionTestUtils.setField(product, "id", id);
+        ReflectionTestUtils.setField(product, "version", version);
+        return product;
+    }
+}
\ No newline at end of file
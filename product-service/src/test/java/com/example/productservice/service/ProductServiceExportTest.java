@@ -0,0 +1,55 @@
+package com.example.productservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.productservice.entity.ProductEntity;
+import com.example.productservice.repository.ProductRepository;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 상품 내보내기 커넥션 점유 테스트
+ * 응답 스트림에 기록하는 동안에는 트랜잭션(DB 커넥션)이 열려 있지 않아야 하며, 모든 상품이 한 줄씩 기록되어야 합니다.
+ */
+@DataJpaTest
+@Import(ProductServiceTestConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProductServiceExportTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Test
+    void exportWritesWithoutHoldingTransaction() {
+        for (int i = 0; i < 3; i++) {
+            productService.createProduct(
+                    ProductEntity.builder().name("export-" + i).price(1000.0).stock(1).category("export").build());
+        }
+        AtomicInteger writesInTransaction = new AtomicInteger();
+        ByteArrayOutputStream output = new ByteArrayOutputStream() {
+            @Override
+            public void write(byte[] bytes, int offset, int length) {
+                if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                    writesInTransaction.incrementAndGet();
+                }
+                super.write(bytes, offset, length);
+            }
+        };
+
+        productService.exportProducts(output);
+
+        assertThat(writesInTransaction.get()).isZero();
+        assertThat(output.toString(StandardCharsets.UTF_8).lines().count()).isEqualTo(productRepository.count());
+    }
+}
\ No newline at end of file
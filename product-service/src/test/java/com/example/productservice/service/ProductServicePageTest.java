@@ -0,0 +1,70 @@
+package com.example.productservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.productservice.dto.ProductPageDto;
+import com.example.productservice.entity.ProductEntity;
+import com.example.productservice.repository.ProductSort;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 상품 목록 커서 검증 테스트
+ * 잘못된 커서나 다른 정렬 기준/방향으로 만든 커서는 500 이 아니라 400 으로 거부되어야 합니다.
+ */
+@DataJpaTest
+@Import(ProductServiceTestConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProductServicePageTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Test
+    void malformedCursorIsBadRequest() {
+        assertBadRequest(() -> productService.getProducts(ProductSort.ID, Sort.Direction.ASC, "not-a-cursor", 10));
+    }
+
+    @Test
+    void cursorFromDifferentSortIsBadRequest() {
+        ProductPageDto page = firstPage(ProductSort.NAME, Sort.Direction.ASC);
+
+        assertBadRequest(() -> productService.getProducts(ProductSort.PRICE, Sort.Direction.ASC,
+                page.getNextCursor(), 1));
+    }
+
+    @Test
+    void cursorFromDifferentDirectionIsBadRequest() {
+        ProductPageDto page = firstPage(ProductSort.NAME, Sort.Direction.ASC);
+
+        assertBadRequest(() -> productService.getProducts(ProductSort.NAME, Sort.Direction.DESC,
+                page.getNextCursor(), 1));
+        assertThat(productService.getProducts(ProductSort.NAME, Sort.Direction.ASC, page.getNextCursor(), 1)
+                .getItems()).hasSize(1);
+    }
+
+    private ProductPageDto firstPage(ProductSort sort, Sort.Direction direction) {
+        for (int i = 0; i < 2; i++) {
+            productService.createProduct(
+                    ProductEntity.builder().name("page-" + i).price(1000.0).stock(1).category("page").build());
+        }
+        ProductPageDto page = productService.getProducts(sort, direction, null, 1);
+
+        assertThat(page.getNextCursor()).isNotNull();
+        return page;
+    }
+
+    private static void assertBadRequest(Runnable request) {
+        assertThatThrownBy(request::run)
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+}
@@ -0,0 +1,205 @@
+package com.example.productservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.productservice.dto.ProductBrowseResult.CategoryCount;
+import com.example.productservice.dto.StockReservationRequest;
+import com.example.productservice.entity.ProductEntity;
+import com.example.productservice.repository.ProductRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 메모리 재고 모드 테스트
+ * 인기 상품에 예약이 몰려도 (orderId 유무와 관계없이) 재고보다 많이 차감되지 않고 반영 후 DB 재고가 일치하고 반영이 상품 버전을 올리지 않아야 하며,
+ * 상품 수정의 재고 변경은 커밋된 뒤에만 카운터에 적용되고, 패싯의 재고 여부는 패싯 갱신 주기에 카운터 값을 따라야 합니다.
+ */
+@DataJpaTest(properties = {
+        "product.stock.in-memory.enabled=true",
+        "product.stock.in-memory.journal-dir=build/test-stock-journal/${random.uuid}",
+        "product.stock.in-memory.journal-id=stock-counter-test"
+})
+@Import(ProductServiceTestConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProductServiceStockCounterTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private StockCounterService stockCounterService;
+
+    @Autowired
+    private ProductFacetCounts productFacetCounts;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void hotProductReservationsNeverOversell() throws Exception {
+        AtomicLong orderIds = new AtomicLong(100_000);
+        assertHotProductNeverOversells("hot", orderIds::incrementAndGet);
+    }
+
+    @Test
+    void hotProductReservationsWithoutOrderIdNeverOversell() throws Exception {
+        // orderId 가 없으면 예약 기록 없이 카운터에서만 차감 (요청마다 DB 를 거치지 않음)
+        assertHotProductNeverOversells("hot-untracked", () -> null);
+    }
+
+    private void assertHotProductNeverOversells(String name, Supplier<Long> orderIds) throws Exception {
+        int stock = 1200;
+        int threads = 16;
+        int attemptsPerThread = 100;
+        ProductEntity product = productService.createProduct(product(name, stock, "load"));
+
+        AtomicInteger reserved = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        runConcurrently(threads, () -> {
+            for (int i = 0; i < attemptsPerThread; i++) {
+                try {
+                    productService.reserveStock(reservation(orderIds.get(), product.getId(), 1));
+                    reserved.incrementAndGet();
+                } catch (ResponseStatusException e) {
+                    assertThat(e.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+                    rejected.incrementAndGet();
+                }
+            }
+        });
+
+        assertThat(reserved.get()).isEqualTo(stock);
+        assertThat(rejected.get()).isEqualTo(threads * attemptsPerThread - stock);
+
+        stockCounterService.flush();
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStock()).isZero();
+    }
+
+    @Test
+    void flushKeepsVersionAndCatalogReadsCounterStock() {
+        ProductEntity product = productService.createProduct(product("flush", 5, "flush"));
+        Long version = productService.getProductById(product.getId()).getVersion();
+
+        // 캐시에 적재된 상품도 재고는 반영 전 카운터 값
+        productService.reserveStock(reservation(null, product.getId(), 2));
+        assertThat(productService.getProductById(product.getId()).getStock()).isEqualTo(3);
+
+        stockCounterService.flush();
+        ProductEntity flushed = productRepository.findById(product.getId()).orElseThrow();
+        assertThat(flushed.getStock()).isEqualTo(3);
+        assertThat(flushed.getVersion()).isEqualTo(version);
+
+        // 반영 전에 읽은 버전으로 수정해도 충돌하지 않음
+        ProductEntity request = productRepository.findById(product.getId()).orElseThrow();
+        request.update("flush-renamed", null, null, null, null);
+        assertThat(productService.updateProduct(product.getId(), request).getName()).isEqualTo("flush-renamed");
+    }
+
+    @Test
+    void rolledBackUpdateDoesNotChangeCounter() {
+        ProductEntity product = productService.createProduct(product("rollback", 10, "update"));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            ProductEntity request = productRepository.findById(product.getId()).orElseThrow();
+            request.update(null, null, null, 2, null);
+            productService.updateProduct(product.getId(), request);
+            status.setRollbackOnly();
+        });
+        // 롤백된 수정의 재고(2)가 적용되지 않았으므로 10개를 모두 예약할 수 있음
+        productService.reserveStock(reservation(200_001L, product.getId(), 10));
+        productService.releaseStock(reservation(200_001L, product.getId(), 10));
+
+        ProductEntity request = productRepository.findById(product.getId()).orElseThrow();
+        request.update(null, null, null, 2, null);
+        productService.updateProduct(product.getId(), request);
+        assertThatThrownBy(() -> productService.reserveStock(reservation(200_002L, product.getId(), 3)))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.CONFLICT));
+    }
+
+    @Test
+    void facetStockFollowsCounterBeforeFlush() {
+        String category = "facet-" + System.nanoTime();
+        ProductEntity product = productService.createProduct(product("facet", 1, category));
+        assertThat(count(category, true)).isEqualTo(1);
+
+        // 실패한 예약은 품절 여부를 바꾸지 않음
+        assertThatThrownBy(() -> productService.reserveStock(reservation(300_001L, product.getId(), 2)))
+                .isInstanceOf(ResponseStatusException.class);
+        stockCounterService.refreshFacets();
+        assertThat(count(category, true)).isEqualTo(1);
+
+        // 예약 경로는 패싯을 직접 갱신하지 않고, 패싯 갱신 주기에 반영됨
+        productService.reserveStock(reservation(300_002L, product.getId(), 1));
+        assertThat(count(category, true)).isEqualTo(1);
+        stockCounterService.refreshFacets();
+        assertThat(count(category, true)).isZero();
+        assertThat(count(category, false)).isEqualTo(1);
+
+        productService.releaseStock(reservation(300_002L, product.getId(), 1));
+        stockCounterService.refreshFacets();
+        assertThat(count(category, true)).isEqualTo(1);
+
+        productService.updateStock(product.getId(), 1);
+        stockCounterService.refreshFacets();
+        assertThat(count(category, true)).isZero();
+    }
+
+    private long count(String category, boolean inStock) {
+        return productFacetCounts.countByCategory(null, null, inStock).stream()
+                .filter(count -> category.equals(count.getCategory()))
+                .mapToLong(CategoryCount::getCount)
+                .sum();
+    }
+
+    private static ProductEntity product(String name, int stock, String category) {
+        return ProductEntity.builder().name(name).price(1000.0).stock(stock).category(category).build();
+    }
+
+    private static StockReservationRequest reservation(Long orderId, Long productId, int quantity) {
+        return StockReservationRequest.builder()
+                .orderId(orderId)
+                .items(List.of(new StockReservationRequest.ReservationItem(productId, quantity)))
+                .build();
+    }
+
+    private static void runConcurrently(int threads, Runnable task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run();
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,204 @@
+package com.example.productservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.productservice.dto.StockReservationRequest;
+import com.example.productservice.entity.ProductEntity;
+import com.example.productservice.repository.ProductRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 조건부 UPDATE 재고 차감 테스트
+ * 여러 스레드가 동시에 예약해도 재고보다 많이 차감되지 않아야 하며,
+ * 같은 주문 ID 의 예약/복원은 몇 번을 다시 요청해도 한 번만 적용되어야 합니다.
+ */
+@DataJpaTest
+@Import(ProductServiceTestConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProductServiceStockTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Test
+    void concurrentReservationsNeverOversell() throws Exception {
+        int stock = 50;
+        int threads = 16;
+        int attemptsPerThread = 10;
+        ProductEntity product = productService.createProduct(product("hot", stock));
+        StockReservationRequest request = reservation(product.getId(), 1);
+
+        AtomicInteger reserved = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        runConcurrently(threads, () -> {
+            for (int i = 0; i < attemptsPerThread; i++) {
+                try {
+                    productService.reserveStock(request);
+                    reserved.incrementAndGet();
+                } catch (ResponseStatusException e) {
+                    assertThat(e.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+                    assertThat(e.getReason()).startsWith("Not enough stock");
+                    rejected.incrementAndGet();
+                }
+            }
+            return null;
+        });
+
+        assertThat(reserved.get()).isEqualTo(stock);
+        assertThat(rejected.get()).isEqualTo(threads * attemptsPerThread - stock);
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStock()).isZero();
+    }
+
+    @Test
+    void reservationIsAllOrNothing() {
+        ProductEntity first = productService.createProduct(product("first", 10));
+        ProductEntity second = productService.createProduct(product("second", 1));
+        StockReservationRequest request = StockReservationRequest.builder()
+                .items(List.of(
+                        new StockReservationRequest.ReservationItem(first.getId(), 3),
+                        new StockReservationRequest.ReservationItem(second.getId(), 2)))
+                .build();
+
+        assertThatThrownBy(() -> productService.reserveStock(request))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getReason()).isEqualTo("Not enough stock for product: " + second.getId()));
+
+        assertThat(productRepository.findById(first.getId()).orElseThrow().getStock()).isEqualTo(10);
+        assertThat(productRepository.findById(second.getId()).orElseThrow().getStock()).isEqualTo(1);
+    }
+
+    @Test
+    void releaseRestoresReservedStock() {
+        ProductEntity product = productService.createProduct(product("restore", 5));
+
+        productService.reserveStock(reservation(product.getId(), 4));
+        productService.releaseStock(reservation(product.getId(), 4));
+
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStock()).isEqualTo(5);
+    }
+
+    @Test
+    void retriedReservationIsAppliedOnce() throws Exception {
+        ProductEntity product = productService.createProduct(product("retry", 10));
+        StockReservationRequest request = reservation(1001L, product.getId(), 3);
+
+        // 응답을 받지 못한 주문 서비스가 같은 예약을 동시에 여러 번 재시도하는 경우
+        runConcurrently(8, () -> {
+            productService.reserveStock(request);
+            return null;
+        });
+        productService.reserveStock(request);
+
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStock()).isEqualTo(7);
+    }
+
+    @Test
+    void retriedReleaseIsAppliedOnce() {
+        ProductEntity product = productService.createProduct(product("release-retry", 10));
+        StockReservationRequest request = reservation(1002L, product.getId(), 4);
+
+        productService.reserveStock(request);
+        productService.releaseStock(request);
+        productService.releaseStock(request);
+
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStock()).isEqualTo(10);
+    }
+
+    @Test
+    void releaseOfOrderReservedBeforeTrackingIsAppliedOnce() {
+        ProductEntity product = productService.createProduct(product("release-untracked", 10));
+        productService.updateStock(product.getId(), 4);
+        StockReservationRequest request = reservation(1005L, product.getId(), 4);
+        request.setReservedBeforeTracking(true);
+
+        // 예약 기록 없이 차감된 주문의 복원은 기록이 없어도 한 번만 적용
+        productService.releaseStock(request);
+        productService.releaseStock(request);
+
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStock()).isEqualTo(10);
+    }
+
+    @Test
+    void lateReservationAfterReleaseIsRejected() {
+        ProductEntity product = productService.createProduct(product("late", 10));
+        StockReservationRequest request = reservation(1003L, product.getId(), 4);
+
+        // 예약이 도착하기 전에 복원 요청이 먼저 처리되면 재고를 늘리지 않고 기록만 남김
+        productService.releaseStock(request);
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStock()).isEqualTo(10);
+
+        assertThatThrownBy(() -> productService.reserveStock(request))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.CONFLICT));
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStock()).isEqualTo(10);
+    }
+
+    @Test
+    void rejectedReservationCanBeRetried() {
+        ProductEntity product = productService.createProduct(product("rejected", 2));
+        StockReservationRequest request = reservation(1004L, product.getId(), 3);
+
+        // 재고 부족으로 롤백된 예약은 기록도 남지 않음
+        assertThatThrownBy(() -> productService.reserveStock(request)).isInstanceOf(ResponseStatusException.class);
+        productService.updateStock(product.getId(), -1);
+        productService.reserveStock(request);
+
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStock()).isZero();
+    }
+
+    private static ProductEntity product(String name, int stock) {
+        return ProductEntity.builder().name(name).price(1000.0).stock(stock).category("test").build();
+    }
+
+    private static StockReservationRequest reservation(Long productId, int quantity) {
+        return StockReservationRequest.builder()
+                .items(List.of(new StockReservationRequest.ReservationItem(productId, quantity)))
+                .build();
+    }
+
+    private static StockReservationRequest reservation(Long orderId, Long productId, int quantity) {
+        return StockReservationRequest.builder()
+                .orderId(orderId)
+                .items(List.of(new StockReservationRequest.ReservationItem(productId, quantity)))
+                .build();
+    }
+
+    private static void runConcurrently(int threads, Callable<Void> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,36 @@
+package com.example.productservice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mockito.Mockito;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.TaskScheduler;
+
+/**
+ * @DataJpaTest 에서 상품 서비스 계층을 구성하기 위한 테스트 설정
+ * 보안/디스커버리 설정 없이 서비스와 저장소만 올립니다.
+ * 재고 저널 반영, 패싯 재구성 같은 @Scheduled 작업은 테스트가 직접 호출하도록 스케줄러가 실행하지 않습니다.
+ */
+@TestConfiguration
+@Import({ ProductService.class, ProductCatalogCache.class, ProductSearchIndex.class, ProductFacetCounts.class,
+        StockCounterService.class })
+public class ProductServiceTestConfig {
+
+    @Bean
+    public MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+
+    @Bean
+    public TaskScheduler taskScheduler() {
+        return Mockito.mock(TaskScheduler.class);
+    }
+
+    @Bean
+    public ObjectMapper objectMapper() {
+        return new ObjectMapper();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,74 @@
+package com.example.productservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.productservice.dto.StockReservationRequest;
+import com.example.productservice.entity.ProductEntity;
+import com.example.productservice.repository.ProductRepository;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 상품 수정 낙관적 잠금 테스트
+ * 재고 예약 이후 이전 버전으로 수정하면 예약된 재고를 덮어쓰지 않고 409 가 되어야 합니다.
+ */
+@DataJpaTest
+@Import(ProductServiceTestConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProductServiceUpdateTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Test
+    void staleUpdateAfterReservationIsRejected() {
+        ProductEntity created = productService.createProduct(
+                ProductEntity.builder().name("stale").price(1000.0).stock(10).category("test").build());
+        // 트랜잭션 밖에서 조회하므로 요청 본문처럼 분리된 상태 (stock=10, 조회 시점 version)
+        ProductEntity staleRequest = productRepository.findById(created.getId()).orElseThrow();
+
+        productService.reserveStock(StockReservationRequest.builder()
+                .items(List.of(new StockReservationRequest.ReservationItem(created.getId(), 3)))
+                .build());
+
+        assertThatThrownBy(() -> productService.updateProduct(created.getId(), staleRequest))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.CONFLICT));
+        assertThat(productRepository.findById(created.getId()).orElseThrow().getStock()).isEqualTo(7);
+    }
+
+    @Test
+    void updateWithCurrentVersionSucceeds() {
+        ProductEntity created = productService.createProduct(
+                ProductEntity.builder().name("fresh").price(1000.0).stock(10).category("test").build());
+        productService.updateStock(created.getId(), 2);
+        ProductEntity current = productRepository.findById(created.getId()).orElseThrow();
+
+        ProductEntity updated = productService.updateProduct(created.getId(), current);
+
+        assertThat(updated.getStock()).isEqualTo(8);
+    }
+
+    @Test
+    void updateWithoutVersionIsRejected() {
+        ProductEntity created = productService.createProduct(
+                ProductEntity.builder().name("noversion").price(1000.0).stock(10).category("test").build());
+        ProductEntity request = ProductEntity.builder().name("renamed").price(1000.0).stock(10).build();
+
+        assertThatThrownBy(() -> productService.updateProduct(created.getId(), request))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_REQUIRED));
+        assertThat(productRepository.findById(created.getId()).orElseThrow().getName()).isEqualTo("noversion");
+    }
+}
\ No newline at end of file
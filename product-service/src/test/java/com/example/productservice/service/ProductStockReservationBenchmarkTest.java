@@ -0,0 +1,139 @@
+package com.example.productservice.service;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.productservice.dto.StockReservationRequest;
+import com.example.productservice.entity.ProductEntity;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 인기 상품 재고 예약 처리량 벤치마크
+ * 같은 작업(한 상품에 여러 스레드가 1개씩 예약)을 DB 재고 모드와 메모리 재고 모드에서 실행하여 초당 예약 수를 보고합니다.
+ * orderId 가 있는 예약(예약 기록 트랜잭션)과 없는 예약(메모리 모드에서는 DB 를 거치지 않음)을 각각 측정합니다.
+ * ./gradlew benchmark 에서만 실행됩니다.
+ */
+@Tag("benchmark")
+class ProductStockReservationBenchmarkTest {
+
+    private static final int THREADS = 16;
+    private static final int RESERVATIONS_PER_THREAD = 500;
+
+    private static final AtomicLong ORDER_IDS = new AtomicLong(1_000_000);
+    private static final Map<String, Double> RATES = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    @AfterAll
+    static void report() {
+        RATES.forEach((workload, rate) -> System.out.printf("%-36s %,12.0f reservations/s%n", workload, rate));
+    }
+
+    @Nested
+    @DataJpaTest(properties = "product.stock.in-memory.enabled=false")
+    @Import(ProductServiceTestConfig.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    class DatabaseStock {
+
+        @Autowired
+        private ProductService productService;
+
+        @Test
+        void reserveHotProduct() throws Exception {
+            measure("DB", productService);
+        }
+    }
+
+    @Nested
+    @DataJpaTest(properties = {
+            "product.stock.in-memory.enabled=true",
+            "product.stock.in-memory.journal-dir=build/benchmark-stock-journal/${random.uuid}",
+            "product.stock.in-memory.journal-id=stock-benchmark"
+    })
+    @Import(ProductServiceTestConfig.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    class InMemoryStock {
+
+        @Autowired
+        private ProductService productService;
+
+        @Test
+        void reserveHotProduct() throws Exception {
+            measure("in-memory", productService);
+        }
+    }
+
+    private static void measure(String mode, ProductService productService) throws Exception {
+        for (boolean withOrderId : new boolean[] { true, false }) {
+            // 첫 실행은 워밍업
+            run(productService, withOrderId);
+            RATES.put(mode + (withOrderId ? " (orderId)" : " (no orderId)"), run(productService, withOrderId));
+        }
+    }
+
+    /**
+     * @return 초당 예약 수
+     */
+    private static double run(ProductService productService, boolean withOrderId) throws Exception {
+        int total = THREADS * RESERVATIONS_PER_THREAD;
+        ProductEntity product = productService.createProduct(ProductEntity.builder()
+                .name("benchmark").price(1000.0).stock(total).category("benchmark").build());
+
+        long start = System.nanoTime();
+        runConcurrently(() -> {
+            for (int i = 0; i < RESERVATIONS_PER_THREAD; i++) {
+                productService.reserveStock(reservation(withOrderId, product.getId()));
+            }
+        });
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        // 재고를 모두 예약한 뒤에는 더 차감되지 않아야 함
+        assertThatThrownBy(() -> productService.reserveStock(reservation(withOrderId, product.getId())))
+                .isInstanceOf(ResponseStatusException.class);
+        return total / seconds;
+    }
+
+    private static StockReservationRequest reservation(boolean withOrderId, Long productId) {
+        return StockReservationRequest.builder()
+                .orderId(withOrderId ? ORDER_IDS.incrementAndGet() : null)
+                .items(List.of(new StockReservationRequest.ReservationItem(productId, 1)))
+                .build();
+    }
+
+    private static void runConcurrently(Runnable task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run();
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}